@@ -0,0 +1,141 @@
+package com.example.casinomod.blackjack;
+
+/**
+ * Basic strategy for one rule set (deck count and dealer soft-17 rule), held as dense decision
+ * tables indexed by player total or pair rank and dealer up-card. Tables are built once per rule
+ * set and cached, so a lookup is a couple of array reads.
+ *
+ * <p>The charts assume the rules the game actually plays: double on any two cards, double after
+ * split, no surrender. Hands that {@link BlackjackGame#canSplit()} rejects fall through to the
+ * hard and soft tables.
+ */
+public final class BasicStrategy {
+  private static final int UP_CARDS = 10; // 2-10, then ace
+  private static final int TOTALS = 22;
+
+  // Table cells
+  private static final byte HIT = 0;
+  private static final byte STAND = 1;
+  private static final byte DOUBLE_OR_HIT = 2;
+  private static final byte DOUBLE_OR_STAND = 3;
+  private static final byte SPLIT = 4;
+
+  private static final PlayerAction[] WITH_DOUBLE = {
+    PlayerAction.HIT, PlayerAction.STAND, PlayerAction.DOUBLE, PlayerAction.DOUBLE
+  };
+  private static final PlayerAction[] WITHOUT_DOUBLE = {
+    PlayerAction.HIT, PlayerAction.STAND, PlayerAction.HIT, PlayerAction.STAND
+  };
+
+  // Instances are immutable, so a racy first lookup at worst builds a table twice
+  private static final BasicStrategy[] CACHE = new BasicStrategy[Shoe.MAX_DECKS * 2];
+
+  private final int deckCount;
+  private final boolean dealerHitsSoft17;
+  private final byte[] hard = new byte[TOTALS * UP_CARDS];
+  private final byte[] soft = new byte[TOTALS * UP_CARDS];
+  private final byte[] pairs = new byte[11 * UP_CARDS]; // by blackjack value, ace = 1
+
+  /** Returns the cached strategy for the given rules, building it on first use. */
+  public static BasicStrategy forRules(int deckCount, boolean dealerHitsSoft17) {
+    int decks = Math.max(1, Math.min(Shoe.MAX_DECKS, deckCount));
+    int index = (decks - 1) * 2 + (dealerHitsSoft17 ? 1 : 0);
+    BasicStrategy strategy = CACHE[index];
+    if (strategy == null) {
+      strategy = new BasicStrategy(decks, dealerHitsSoft17);
+      CACHE[index] = strategy;
+    }
+    return strategy;
+  }
+
+  private BasicStrategy(int deckCount, boolean dealerHitsSoft17) {
+    this.deckCount = deckCount;
+    this.dealerHitsSoft17 = dealerHitsSoft17;
+    buildHard();
+    buildSoft();
+    buildPairs();
+  }
+
+  // ─────────────── Lookup ───────────────
+
+  /**
+   * The basic-strategy action for {@code hand} against {@code dealerUpCard}. Doubles and splits are
+   * only returned when allowed; a double that isn't becomes a hit or a stand, as the charts say.
+   */
+  public PlayerAction decide(
+      HandState hand, Card dealerUpCard, boolean canDouble, boolean canSplit) {
+    int up = upIndex(dealerUpCard);
+    if (canSplit) {
+      int pair = Card.byId(hand.getId(0)).getBlackjackValue();
+      if (pairs[pair * UP_CARDS + up] == SPLIT) return PlayerAction.SPLIT;
+    }
+    int total = Math.min(hand.value(), 21);
+    byte cell = (hand.isSoft() ? soft : hard)[total * UP_CARDS + up];
+    return canDouble ? WITH_DOUBLE[cell] : WITHOUT_DOUBLE[cell];
+  }
+
+  private static int upIndex(Card upCard) {
+    return upCard.isAce() ? UP_CARDS - 1 : upCard.getBlackjackValue() - 2;
+  }
+
+  public int getDeckCount() {
+    return deckCount;
+  }
+
+  public boolean isDealerHitsSoft17() {
+    return dealerHitsSoft17;
+  }
+
+  // ─────────────── Charts ───────────────
+
+  private void buildHard() {
+    fill(hard, 17, 21, 2, 11, STAND);
+    fill(hard, 13, 16, 2, 6, STAND);
+    fill(hard, 12, 12, 4, 6, STAND);
+    fill(hard, 11, 11, 2, 10, DOUBLE_OR_HIT);
+    if (dealerHitsSoft17 || deckCount <= 2) {
+      fill(hard, 11, 11, 11, 11, DOUBLE_OR_HIT);
+    }
+    fill(hard, 10, 10, 2, 9, DOUBLE_OR_HIT);
+    fill(hard, 9, 9, deckCount <= 2 ? 2 : 3, 6, DOUBLE_OR_HIT);
+    if (deckCount == 1) {
+      fill(hard, 8, 8, 5, 6, DOUBLE_OR_HIT);
+    }
+  }
+
+  private void buildSoft() {
+    fill(soft, 19, 21, 2, 11, STAND);
+    if (dealerHitsSoft17 || deckCount == 1) {
+      fill(soft, 19, 19, 6, 6, DOUBLE_OR_STAND);
+    }
+    fill(soft, 18, 18, 2, 8, STAND);
+    fill(soft, 18, 18, dealerHitsSoft17 ? 2 : 3, 6, DOUBLE_OR_STAND);
+    if (deckCount == 1 && !dealerHitsSoft17) {
+      fill(soft, 18, 18, 11, 11, STAND);
+    }
+    fill(soft, 17, 17, deckCount == 1 ? 2 : 3, 6, DOUBLE_OR_HIT);
+    fill(soft, 15, 16, 4, 6, DOUBLE_OR_HIT);
+    fill(soft, 13, 14, deckCount == 1 ? 4 : 5, 6, DOUBLE_OR_HIT);
+  }
+
+  private void buildPairs() {
+    fill(pairs, 1, 1, 2, 11, SPLIT);
+    fill(pairs, 8, 8, 2, 11, SPLIT);
+    fill(pairs, 2, 2, 2, 7, SPLIT);
+    fill(pairs, 3, 3, 2, deckCount == 1 ? 8 : 7, SPLIT);
+    fill(pairs, 4, 4, deckCount == 1 ? 4 : 5, 6, SPLIT);
+    fill(pairs, 6, 6, 2, deckCount <= 2 ? 7 : 6, SPLIT);
+    fill(pairs, 7, 7, 2, deckCount == 1 ? 8 : 7, SPLIT);
+    fill(pairs, 9, 9, 2, 6, SPLIT);
+    fill(pairs, 9, 9, 8, 9, SPLIT);
+  }
+
+  /** Sets rows {@code fromRow..toRow} against up-cards {@code fromUp..toUp} (ace = 11). */
+  private static void fill(byte[] table, int fromRow, int toRow, int fromUp, int toUp, byte cell) {
+    for (int row = fromRow; row <= toRow; row++) {
+      for (int up = fromUp; up <= toUp; up++) {
+        table[row * UP_CARDS + up - 2] = cell;
+      }
+    }
+  }
+}
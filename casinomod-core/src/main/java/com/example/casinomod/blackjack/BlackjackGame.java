@@ -0,0 +1,1395 @@
+package com.example.casinomod.blackjack;
+
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+import javax.annotation.Nullable;
+
+import com.example.casinomod.core.CasinoCore;
+import com.example.casinomod.core.StateInput;
+import com.example.casinomod.core.StateOutput;
+
+public class BlackjackGame {
+
+  // ────────────────────── Enums ──────────────────────
+
+  public enum GamePhase {
+    WAITING,
+    PLAYER_TURN,
+    DEALER_TURN,
+    FINISHED
+  }
+
+  public enum Result {
+    WIN,
+    LOSE,
+    DRAW,
+    UNFINISHED
+  }
+
+  // ────────────────────── Fields ──────────────────────
+
+  /** Key of the persisted shoe, which is kept out of client sync packets. */
+  public static final String SHOE_TAG = "shoe";
+
+  /** Key of the saved round journal, which reveals the shoe and is kept out of sync packets. */
+  public static final String JOURNAL_TAG = "journal";
+
+  /** Most seats a table can deal to in one round. */
+  public static final int MAX_SEATS = 7;
+
+  private static final int[] SINGLE_SEAT = {0};
+
+  private final Shoe shoe = new Shoe();
+  private int numberOfDecks = 1;
+  private final Seat[] seats = new Seat[MAX_SEATS];
+  private final HandState dealerHand = new HandState();
+  private RandomGenerator random = new SplittableRandom();
+  private boolean deterministic = false;
+  private boolean continuousShuffle = false;
+  private GamePhase phase = GamePhase.WAITING;
+  private int activeSeat = 0;
+  private int maxHands = Seat.MAX_HANDS;
+  private boolean resplitAces = false;
+  private boolean hitSplitAces = false;
+  private final RoundJournal journal = new RoundJournal();
+  // Reshuffle seeds to reuse while replaying a journal, in the order they were drawn
+  @Nullable private long[] replaySeeds = null;
+  private int replaySeedIndex = 0;
+
+  public BlackjackGame() {
+    for (int i = 0; i < MAX_SEATS; i++) {
+      seats[i] = new Seat(i);
+    }
+  }
+
+  // ─────────────── Serialization ───────────────
+
+  /**
+   * Version of the saved table format. Version 2 packs each hand's cards into a byte array of IDs
+   * (see {@link Card#ordinal()}) and stores the phase, flags and indices as numbers; version 1
+   * saves wrote every card as a child with its name and every number as a string.
+   */
+  public static final int FORMAT_VERSION = 2;
+
+  private static final int FLAG_DOUBLED = 1;
+  private static final int FLAG_SPLIT = 2;
+  private static final int FLAG_SPLIT_ACES = 4;
+
+  /**
+   * Saves the table. During a round only its {@link RoundJournal} is written, since replaying it
+   * rebuilds the shoe, hands and phase; between rounds the shoe is saved as it stands.
+   */
+  public void serialize(StateOutput output) {
+    serializeSettings(output, phase);
+    if (journal.isActive()) {
+      journal.write(output.child(JOURNAL_TAG));
+      return;
+    }
+
+    if (!shoe.isEmpty()) {
+      StateOutput shoeOutput = output.child(SHOE_TAG);
+      shoeOutput.putInt("decks", shoe.getDeckCount());
+      shoeOutput.putInt("size", shoe.size());
+      byte[] order = shoe.undealtOrder();
+      shoeOutput.putByteArray("order", order, 0, order.length);
+      shoe.getSeed().ifPresent(seed -> shoeOutput.putLong("seed", seed));
+    }
+    serializeTable(output, dealerHand.size());
+  }
+
+  /**
+   * Writes the table as the players see it, for client sync: the phase and every hand, but neither
+   * the shoe nor the journal. {@link #deserialize(StateInput)} reads it back.
+   */
+  public void serializeTableView(StateOutput output) {
+    serializeSettings(output, phase);
+    serializeTable(output, dealerHand.size());
+  }
+
+  /**
+   * As {@link #serializeTableView(StateOutput)}, for a table part way through revealing the
+   * dealer's turn: the dealer shows only the cards {@code reveal} has reached by {@code step}, and
+   * until every step has been shown the round still reads as the dealer's turn, so the result is
+   * not given away early.
+   */
+  public void serializeTableView(StateOutput output, DealerTimeline reveal, int step) {
+    boolean revealing =
+        phase == GamePhase.FINISHED && reveal != DealerTimeline.NONE && step <= reveal.size();
+    serializeSettings(output, revealing ? GamePhase.DEALER_TURN : phase);
+    int dealerCards = dealerHand.size();
+    serializeTable(
+        output, revealing ? Math.min(dealerCards, reveal.cardsShownAt(step)) : dealerCards);
+  }
+
+  private void serializeSettings(StateOutput output, GamePhase phase) {
+    output.putInt("version", FORMAT_VERSION);
+    output.putInt("phase", phase.ordinal());
+    output.putInt("decks", numberOfDecks);
+    output.putDouble("penetration", shoe.getPenetration());
+  }
+
+  private void serializeTable(StateOutput output, int dealerCards) {
+    output.putInt("activeSeat", activeSeat);
+    StateOutput.ChildList seatsOutput = output.childrenList("seats");
+    for (Seat seat : seats) {
+      if (seat.isPlaying()) {
+        StateOutput seatOutput = seatsOutput.addChild();
+        seatOutput.putInt("seat", seat.getIndex());
+        serializeSeat(seat, seatOutput);
+      }
+    }
+
+    output.putByteArray("dealer", dealerHand.cardIds(), 0, dealerCards);
+  }
+
+  private static void serializeSeat(Seat seat, StateOutput output) {
+    int flags = 0;
+    if (seat.doubledDown) flags |= FLAG_DOUBLED;
+    if (seat.hasSplit) flags |= FLAG_SPLIT;
+    if (seat.splitAces) flags |= FLAG_SPLIT_ACES;
+    output.putInt("flags", flags);
+    output.putInt("hand", seat.currentHandIndex);
+
+    StateOutput.ChildList handsOutput = output.childrenList("hands");
+    for (int i = 0; i < seat.getHandCount(); i++) {
+      StateOutput handOutput = handsOutput.addChild();
+      handOutput.putInt("bet", seat.getHandWager(i));
+      byte[] cards = seat.hands.get(i).cardIds();
+      handOutput.putByteArray("cards", cards, 0, cards.length);
+    }
+  }
+
+  /** Loads a table saved by either format version; the next save writes the current one. */
+  public void deserialize(StateInput input) {
+    boolean compact = input.getIntOr("version", 1) >= 2;
+    if (compact) {
+      deserializeSettings(input);
+    } else {
+      deserializeLegacySettings(input);
+    }
+
+    // Client sync packets omit the shoe, so only replace it when one was saved
+    input
+        .child(SHOE_TAG)
+        .ifPresent(
+            shoeInput -> {
+              try {
+                OptionalLong seed = shoeInput.getLong("seed");
+                int decks = shoeInput.getIntOr("decks", numberOfDecks);
+                if (compact) {
+                  byte[] order = shoeInput.getByteArray("order").orElse(new byte[0]);
+                  shoe.restore(decks, shoeInput.getIntOr("size", order.length), order, seed);
+                } else {
+                  int[] cards = shoeInput.getIntArray("cards").orElse(new int[0]);
+                  shoe.restore(decks, shoeInput.getIntOr("size", cards.length), cards, seed);
+                }
+              } catch (IllegalArgumentException e) {
+                CasinoCore.LOGGER.warn(
+                    "[BlackjackGame] Discarding invalid saved shoe: {}", e.getMessage());
+                shoe.clear();
+              }
+            });
+
+    journal.clear();
+    Optional<StateInput> journalInput = input.child(JOURNAL_TAG);
+    if (journalInput.isPresent()) {
+      try {
+        replay(RoundJournal.read(journalInput.get()));
+        return;
+      } catch (RuntimeException e) {
+        CasinoCore.LOGGER.warn(
+            "[BlackjackGame] Discarding invalid saved round journal: {}", e.getMessage());
+        shoe.clear();
+        reset();
+        return;
+      }
+    }
+
+    for (Seat seat : seats) {
+      seat.reset(false);
+    }
+    activeSeat = Math.max(0, Math.min(MAX_SEATS - 1, input.getIntOr("activeSeat", 0)));
+    dealerHand.clear();
+    if (compact) {
+      deserializeTable(input);
+    } else {
+      deserializeLegacyTable(input);
+    }
+  }
+
+  private void deserializeSettings(StateInput input) {
+    int phaseOrdinal = input.getIntOr("phase", 0);
+    if (phaseOrdinal >= 0 && phaseOrdinal < GamePhase.values().length) {
+      phase = GamePhase.values()[phaseOrdinal];
+    }
+    numberOfDecks = Math.max(1, Math.min(8, input.getIntOr("decks", numberOfDecks)));
+    shoe.setPenetration(input.getDoubleOr("penetration", shoe.getPenetration()));
+  }
+
+  private void deserializeTable(StateInput input) {
+    input
+        .childrenList("seats")
+        .ifPresent(
+            seatsList ->
+                seatsList.forEach(
+                    seatInput -> {
+                      int index = seatInput.getIntOr("seat", -1);
+                      if (index >= 0 && index < MAX_SEATS) {
+                        deserializeSeat(seats[index], seatInput);
+                      }
+                    }));
+    input.getByteArray("dealer").ifPresent(ids -> addCards(dealerHand, ids));
+  }
+
+  private static void deserializeSeat(Seat seat, StateInput input) {
+    int flags = input.getIntOr("flags", 0);
+    seat.doubledDown = (flags & FLAG_DOUBLED) != 0;
+    seat.hasSplit = (flags & FLAG_SPLIT) != 0;
+    seat.splitAces = (flags & FLAG_SPLIT_ACES) != 0;
+    seat.currentHandIndex = input.getIntOr("hand", 0);
+
+    input
+        .childrenList("hands")
+        .ifPresent(
+            handsList ->
+                handsList.forEach(
+                    handInput -> {
+                      if (seat.getHandCount() == Seat.MAX_HANDS) return;
+                      HandState hand = seat.addHand();
+                      seat.setHandWager(seat.getHandCount() - 1, handInput.getIntOr("bet", 1));
+                      handInput.getByteArray("cards").ifPresent(ids -> addCards(hand, ids));
+                    }));
+    clampHandIndex(seat);
+  }
+
+  /** Keeps a loaded hand index on one of the seat's hands, whatever the save said. */
+  private static void clampHandIndex(Seat seat) {
+    seat.currentHandIndex = Math.max(0, Math.min(seat.getHandCount() - 1, seat.currentHandIndex));
+  }
+
+  /** Adds saved card IDs to a hand, skipping any that are out of range. */
+  private static void addCards(HandState hand, byte[] ids) {
+    for (byte id : ids) {
+      if (id >= 0 && id < Card.COUNT) {
+        hand.addId(id);
+      }
+    }
+  }
+
+  // Version 1 saves, read for backward compatibility
+
+  private void deserializeLegacySettings(StateInput input) {
+    input
+        .getString("phase")
+        .ifPresent(
+            s -> {
+              try {
+                this.phase = GamePhase.valueOf(s);
+              } catch (IllegalArgumentException ignored) {
+              }
+            });
+
+    input
+        .getString("numberOfDecks")
+        .ifPresent(
+            s -> {
+              try {
+                this.numberOfDecks = Math.max(1, Math.min(8, Integer.parseInt(s)));
+              } catch (NumberFormatException ignored) {
+              }
+            });
+
+    input
+        .getString("penetration")
+        .ifPresent(
+            s -> {
+              try {
+                shoe.setPenetration(Double.parseDouble(s));
+              } catch (NumberFormatException ignored) {
+              }
+            });
+  }
+
+  private void deserializeLegacyTable(StateInput input) {
+    input
+        .childrenList("seats")
+        .ifPresentOrElse(
+            seatsList ->
+                seatsList.forEach(
+                    seatInput -> {
+                      int index = seatInput.getIntOr("seat", -1);
+                      if (index >= 0 && index < MAX_SEATS) {
+                        deserializeLegacySeat(seats[index], seatInput);
+                      }
+                    }),
+            // Saves from before multi-seat tables keep the only seat's state at the top level
+            () -> deserializeLegacySeat(seats[0], input));
+
+    input
+        .childrenList("dealerHand")
+        .ifPresent(
+            list ->
+                list.forEach(
+                    child ->
+                        child
+                            .getString("card")
+                            .ifPresent(name -> dealerHand.add(Card.fromName(name)))));
+  }
+
+  private static void deserializeLegacySeat(Seat seat, StateInput input) {
+    input.getString("doubledDown").ifPresent(s -> seat.doubledDown = Boolean.parseBoolean(s));
+    input.getString("hasSplit").ifPresent(s -> seat.hasSplit = Boolean.parseBoolean(s));
+    input.getString("splitAces").ifPresent(s -> seat.splitAces = Boolean.parseBoolean(s));
+    input
+        .getString("currentHandIndex")
+        .ifPresent(
+            s -> {
+              try {
+                seat.currentHandIndex = Integer.parseInt(s);
+              } catch (NumberFormatException ignored) {
+              }
+            });
+
+    input
+        .childrenList("playerHands")
+        .ifPresent(
+            handsList ->
+                handsList.forEach(
+                    handInput -> {
+                      if (seat.getHandCount() == Seat.MAX_HANDS) return;
+                      HandState hand = seat.addHand();
+                      seat.setHandWager(seat.getHandCount() - 1, handInput.getIntOr("bet", 1));
+                      handInput
+                          .childrenList("cards")
+                          .ifPresent(
+                              cardsList ->
+                                  cardsList.forEach(
+                                      cardInput ->
+                                          cardInput
+                                              .getString("card")
+                                              .ifPresent(name -> hand.add(Card.fromName(name)))));
+                    }));
+
+    // Backward compatibility: check for old single hand format
+    if (seat.hands.isEmpty()) {
+      input
+          .childrenList("playerHand")
+          .ifPresent(
+              list -> {
+                HandState hand = seat.addHand();
+                list.forEach(
+                    child ->
+                        child.getString("card").ifPresent(name -> hand.add(Card.fromName(name))));
+                if (hand.isEmpty()) {
+                  seat.clearHands();
+                }
+              });
+    }
+    clampHandIndex(seat);
+  }
+
+  // ─────────────── Game Lifecycle ───────────────
+
+  public void startGame() {
+    startGame(numberOfDecks);
+  }
+
+  /** Starts a round with a single player in seat 0. */
+  public void startGame(int deckCount) {
+    startGame(deckCount, SINGLE_SEAT);
+  }
+
+  /**
+   * Starts a round for the given seats, which all share the dealer's hand and the shoe. Seats are
+   * played in ascending order; seats not listed sit the round out.
+   *
+   * @param seatsInPlay indices of the seats with a wager, each below {@link #MAX_SEATS}
+   */
+  public void startGame(int deckCount, int[] seatsInPlay) {
+    CasinoCore.LOGGER.debug(
+        "[BlackjackGame] Initializing game with {} deck(s) and {} seat(s)",
+        deckCount,
+        seatsInPlay.length);
+    this.numberOfDecks = Math.max(1, Math.min(8, deckCount)); // Clamp to 1-8 decks
+    for (Seat seat : seats) {
+      seat.reset(false);
+    }
+    for (int index : seatsInPlay) {
+      seats[index].reset(true);
+    }
+    dealerHand.clear();
+    phase = GamePhase.PLAYER_TURN;
+    activeSeat = seatsInPlay.length > 0 ? firstSeatFrom(0) : 0;
+
+    // The shoe carries over between rounds until the cut card comes out
+    if (shuffleDue() || shoe.getDeckCount() != this.numberOfDecks) {
+      refillShoe();
+      CasinoCore.LOGGER.debug(
+          "[BlackjackGame] Deck shuffled with {} cards from {} deck(s)",
+          shoe.remaining(),
+          this.numberOfDecks);
+    } else {
+      CasinoCore.LOGGER.debug(
+          "[BlackjackGame] Continuing shoe with {} of {} cards remaining",
+          shoe.remaining(),
+          shoe.size());
+    }
+    journal.begin(this, seatsInPlay, shoe);
+  }
+
+  /**
+   * Ends the round. The shoe is kept so the next round continues dealing from it; with {@link
+   * #setContinuousShuffle(boolean) continuous shuffling} the cards on the table go back into it.
+   */
+  public void reset() {
+    if (continuousShuffle) {
+      returnDiscards();
+    }
+    for (Seat seat : seats) {
+      seat.reset(false);
+    }
+    dealerHand.clear();
+    phase = GamePhase.WAITING;
+    activeSeat = 0;
+    journal.clear();
+  }
+
+  /**
+   * Shuffles every card on the table back into the shoe at random positions. Skipped when the
+   * table holds other cards than the ones dealt from the shoe since it was filled, as after a
+   * mid-round refill; the next round then starts a fresh shoe instead.
+   */
+  private void returnDiscards() {
+    int onTable = dealerHand.size();
+    for (Seat seat : seats) {
+      for (int i = 0; i < seat.getHandCount(); i++) {
+        onTable += seat.hands.get(i).size();
+      }
+    }
+    if (onTable != shoe.dealt()) {
+      return;
+    }
+
+    for (int i = 0; i < dealerHand.size(); i++) {
+      shoe.reinsert(dealerHand.getId(i), random);
+    }
+    for (Seat seat : seats) {
+      for (int i = 0; i < seat.getHandCount(); i++) {
+        HandState hand = seat.hands.get(i);
+        for (int c = 0; c < hand.size(); c++) {
+          shoe.reinsert(hand.getId(c), random);
+        }
+      }
+    }
+  }
+
+  public void stand() {
+    if (phase == GamePhase.PLAYER_TURN) {
+      journal.record(RoundJournal.Action.STAND);
+      Seat seat = seats[activeSeat];
+      CasinoCore.LOGGER.debug(
+          "[BlackjackGame] Seat {} stands on hand {}", activeSeat, seat.currentHandIndex);
+
+      if (!seat.isOnLastHand()) {
+        // Move to next hand
+        seat.currentHandIndex++;
+        CasinoCore.LOGGER.debug("[BlackjackGame] Moving to hand {}", seat.currentHandIndex);
+        skipSplitAces(seat);
+      } else {
+        finishSeat();
+      }
+    } else {
+      CasinoCore.LOGGER.warn("Cannot stand: Phase is {}", phase);
+    }
+  }
+
+  /**
+   * Passes the turn to the next seat in play. After the last seat the dealer plays once for the
+   * whole table, unless every hand has busted and there is nothing left to play against.
+   */
+  private void finishSeat() {
+    int next = firstSeatFrom(activeSeat + 1);
+    if (next < MAX_SEATS) {
+      activeSeat = next;
+      CasinoCore.LOGGER.debug("[BlackjackGame] Seat {} to act", activeSeat);
+      return;
+    }
+    boolean anyBusted = false;
+    for (Seat seat : seats) {
+      if (seat.isLive()) {
+        phase = GamePhase.DEALER_TURN;
+        return;
+      }
+      anyBusted |= seat.isPlaying();
+    }
+    phase = anyBusted ? GamePhase.FINISHED : GamePhase.DEALER_TURN;
+  }
+
+  /** Index of the first seat in play at or after {@code from}, or {@link #MAX_SEATS} if none. */
+  private int firstSeatFrom(int from) {
+    for (int i = from; i < MAX_SEATS; i++) {
+      if (seats[i].isPlaying()) return i;
+    }
+    return MAX_SEATS;
+  }
+
+  // ─────────────── Seats ───────────────
+
+  /** The seat at {@code index}, whether or not it is in the current round. */
+  public Seat getSeat(int index) {
+    return seats[index];
+  }
+
+  /** Index of the seat whose turn it is; single-seat accessors below all act on this seat. */
+  public int getActiveSeatIndex() {
+    return activeSeat;
+  }
+
+  /** Indices of the seats dealt into the current round, in playing order. */
+  public int[] getSeatsInPlay() {
+    int count = 0;
+    for (Seat seat : seats) {
+      if (seat.isPlaying()) count++;
+    }
+    int[] indices = new int[count];
+    for (int i = 0, n = 0; i < MAX_SEATS; i++) {
+      if (seats[i].isPlaying()) indices[n++] = i;
+    }
+    return indices;
+  }
+
+  /** Deals one card to the current hand of the given seat, ensuring a hand exists. */
+  public void dealToSeat(int index) {
+    journal.record(RoundJournal.Action.DEAL, index);
+    Seat seat = seats[index];
+    HandState hand = seat.currentHand();
+    if (hand == null) {
+      hand = seat.hands.isEmpty() ? seat.addHand() : seat.hands.get(0);
+    }
+    hand.add(draw());
+  }
+
+  /** Overall result for a seat once the round is finished; see {@link #determineResult()}. */
+  public Result determineSeatResult(int index) {
+    if (phase != GamePhase.FINISHED) {
+      return Result.UNFINISHED;
+    }
+    Seat seat = seats[index];
+    if (!seat.hasSplit) {
+      return seat.hands.isEmpty() ? Result.LOSE : compare(seat.hands.get(0));
+    }
+    boolean hasWin = false;
+    boolean hasLose = false;
+    for (HandState hand : seat.hands) {
+      Result handResult = compare(hand);
+      if (handResult == Result.WIN) hasWin = true;
+      if (handResult == Result.LOSE) hasLose = true;
+    }
+
+    if (hasWin && !hasLose) return Result.WIN;
+    if (!hasWin && hasLose) return Result.LOSE;
+    return Result.DRAW; // Mixed results or all draws
+  }
+
+  /**
+   * Items to hand back to a seat once the round is finished, given its base wager: each hand's own
+   * stake back plus even money on a win, or 3:2 for an unsplit blackjack. Lost hands return none.
+   */
+  public int payoutFor(int index, int baseWager) {
+    if (phase != GamePhase.FINISHED) {
+      return 0;
+    }
+    Seat seat = seats[index];
+    int payout = 0;
+    for (int i = 0; i < seat.getHandCount(); i++) {
+      int stake = seat.getHandWager(i) * baseWager;
+      switch (compare(seat.hands.get(i))) {
+        case WIN -> payout += seat.isBlackjack() ? stake + baseWager * 3 / 2 : stake * 2;
+        case DRAW -> payout += stake;
+        default -> {}
+      }
+    }
+    return payout;
+  }
+
+  private Result compare(HandState hand) {
+    int playerScore = hand.value();
+    int dealerScore = dealerHand.value();
+
+    if (playerScore > 21) return Result.LOSE;
+    if (dealerScore > 21) return Result.WIN;
+    if (playerScore > dealerScore) return Result.WIN;
+    if (playerScore < dealerScore) return Result.LOSE;
+    return Result.DRAW;
+  }
+
+  // ─────────────── Split Pairs ───────────────
+
+  /**
+   * True when the current hand is a pair that may be split: two cards of the same rank, fewer hands
+   * than {@link #getMaxHands()}, and for split aces only when the table allows re-splitting them.
+   */
+  public boolean canSplit() {
+    if (phase != GamePhase.PLAYER_TURN) return false;
+    Seat seat = seats[activeSeat];
+    if (seat.getHandCount() >= maxHands) return false; // Table limit on hands
+
+    HandState hand = seat.currentHand();
+    if (hand == null || hand.size() != 2) return false; // Must have exactly 2 cards
+
+    // Check if both cards have the same rank
+    if (hand.get(0).getValue() != hand.get(1).getValue()) return false;
+    return !seat.splitAces || resplitAces;
+  }
+
+  /**
+   * Splits the current hand into two, each getting one more card. Later hands shift along, so
+   * play continues with the first of the pair and then the second.
+   */
+  public void splitPairs() {
+    if (!canSplit()) {
+      CasinoCore.LOGGER.warn("Cannot split: Invalid conditions");
+      return;
+    }
+
+    journal.record(RoundJournal.Action.SPLIT);
+    Seat seat = seats[activeSeat];
+    int index = seat.currentHandIndex;
+    HandState originalHand = seat.hands.get(index);
+    Card firstCard = originalHand.get(0);
+
+    CasinoCore.LOGGER.debug(
+        "[BlackjackGame] Splitting pair of {} on hand {}", firstCard.getValue(), index);
+
+    // Moves the second card into a pooled hand right after this one
+    seat.split(index);
+    HandState newHand = seat.hands.get(index + 1);
+
+    // Deal one card to each hand
+    originalHand.add(draw());
+    newHand.add(draw());
+
+    seat.hasSplit = true;
+    seat.splitAces |= firstCard.isAce();
+
+    CasinoCore.LOGGER.debug(
+        "[BlackjackGame] Split complete. Hand {}: {}, Hand {}: {}",
+        index,
+        formatHand(originalHand),
+        index + 1,
+        formatHand(newHand));
+
+    skipSplitAces(seat);
+  }
+
+  /**
+   * Split aces take one card each unless the table allows hitting them. Moves play past every such
+   * hand that cannot be split again, finishing the seat if none is left.
+   */
+  private void skipSplitAces(Seat seat) {
+    if (!seat.splitAces || hitSplitAces) return;
+    while (!canSplit()) {
+      if (seat.isOnLastHand()) {
+        finishSeat();
+        return;
+      }
+      seat.currentHandIndex++;
+    }
+  }
+
+  /** True when the current hand is a split ace that the table does not let the player draw to. */
+  private boolean isLockedSplitAce(Seat seat) {
+    return seat.splitAces && !hitSplitAces;
+  }
+
+  public boolean hasSplit() {
+    return seats[activeSeat].hasSplit;
+  }
+
+  public int getCurrentHandIndex() {
+    return seats[activeSeat].currentHandIndex;
+  }
+
+  public int getHandCount() {
+    return seats[activeSeat].hands.size();
+  }
+
+  /** Most hands a seat may split into; 1 disables splitting. */
+  public int getMaxHands() {
+    return maxHands;
+  }
+
+  /** Sets how many hands a seat may split into, clamped to 1-{@link Seat#MAX_HANDS}. */
+  public void setMaxHands(int maxHands) {
+    this.maxHands = Math.max(1, Math.min(Seat.MAX_HANDS, maxHands));
+  }
+
+  public boolean isResplitAces() {
+    return resplitAces;
+  }
+
+  /** Whether a split ace that draws another ace may be split again. */
+  public void setResplitAces(boolean resplitAces) {
+    this.resplitAces = resplitAces;
+  }
+
+  public boolean isHitSplitAces() {
+    return hitSplitAces;
+  }
+
+  /** Whether split aces are played like any other hand instead of getting a single card. */
+  public void setHitSplitAces(boolean hitSplitAces) {
+    this.hitSplitAces = hitSplitAces;
+  }
+
+  // ─────────────── Player Actions ───────────────
+
+  public void hitPlayer() {
+    if (phase != GamePhase.PLAYER_TURN) {
+      CasinoCore.LOGGER.warn("Cannot hit: Phase is {}", phase);
+      return;
+    }
+
+    Seat seat = seats[activeSeat];
+    HandState currentHand = seat.currentHand();
+    if (currentHand == null) {
+      CasinoCore.LOGGER.warn("Cannot hit: Invalid hand index {}", seat.currentHandIndex);
+      return;
+    }
+    if (isLockedSplitAce(seat)) {
+      CasinoCore.LOGGER.warn("Cannot hit: Split aces take only one card");
+      return;
+    }
+
+    journal.record(RoundJournal.Action.HIT);
+    Card drawn = draw();
+    currentHand.add(drawn);
+    CasinoCore.LOGGER.debug(
+        "[BlackjackGame] Player hits hand {} and draws {}", seat.currentHandIndex, drawn);
+
+    if (currentHand.isBusted()) {
+      CasinoCore.LOGGER.debug("[BlackjackGame] Hand {} busted!", seat.currentHandIndex);
+
+      if (!seat.isOnLastHand()) {
+        // Move to next hand
+        seat.currentHandIndex++;
+        CasinoCore.LOGGER.debug(
+            "[BlackjackGame] Moving to hand {} after bust", seat.currentHandIndex);
+      } else {
+        // All of this seat's hands are done
+        finishSeat();
+      }
+    }
+  }
+
+  public void doubleDown() {
+    if (phase != GamePhase.PLAYER_TURN) {
+      CasinoCore.LOGGER.warn("Cannot double down: Phase is {}", phase);
+      return;
+    }
+
+    Seat seat = seats[activeSeat];
+    if (!canDoubleDown()) {
+      HandState currentHand = seat.currentHand();
+      CasinoCore.LOGGER.warn(
+          "Cannot double down: Hand {} has {} cards",
+          seat.currentHandIndex,
+          currentHand != null ? currentHand.size() : 0);
+      return;
+    }
+
+    journal.record(RoundJournal.Action.DOUBLE);
+    HandState currentHand = seat.currentHand();
+    seat.doubleCurrentBet();
+    Card drawn = draw();
+    currentHand.add(drawn);
+    CasinoCore.LOGGER.debug(
+        "[BlackjackGame] Player doubles down on hand {} and draws {}",
+        seat.currentHandIndex,
+        drawn);
+
+    // Player's turn on this hand ends immediately after double down
+    if (currentHand.isBusted()) {
+      CasinoCore.LOGGER.debug(
+          "[BlackjackGame] Hand {} busted after double down!", seat.currentHandIndex);
+    }
+    if (!seat.isOnLastHand()) {
+      // Move to next hand
+      seat.currentHandIndex++;
+      CasinoCore.LOGGER.debug(
+          "[BlackjackGame] Moving to hand {} after double down", seat.currentHandIndex);
+    } else {
+      finishSeat();
+    }
+  }
+
+  public boolean canDoubleDown() {
+    if (phase != GamePhase.PLAYER_TURN) return false;
+    HandState currentHand = getCurrentHand();
+    return currentHand != null && currentHand.size() == 2 && !isLockedSplitAce(seats[activeSeat]);
+  }
+
+  public HandState getCurrentHand() {
+    return seats[activeSeat].currentHand();
+  }
+
+  public boolean hasDoubledDown() {
+    return seats[activeSeat].doubledDown;
+  }
+
+  // ─────────────── Strategy Hints ───────────────
+
+  /**
+   * Basic-strategy action for the current hand, or {@code null} outside the player's turn. A table
+   * lookup, so it is cheap enough to call every frame.
+   *
+   * @param dealerHitsSoft17 the soft 17 rule of the table being played
+   */
+  @Nullable
+  public PlayerAction recommendedAction(boolean dealerHitsSoft17) {
+    HandState hand = getCurrentHand();
+    if (phase != GamePhase.PLAYER_TURN || hand == null || hand.size() < 2 || dealerHand.isEmpty()) {
+      return null;
+    }
+    return BasicStrategy.forRules(numberOfDecks, dealerHitsSoft17)
+        .decide(hand, dealerHand.get(0), canDoubleDown(), canSplit());
+  }
+
+  /**
+   * Cards the player cannot see, by blackjack value (see {@link Shoe#composition()}): the rest of
+   * the shoe, plus the dealer's hole card during the player's turn.
+   */
+  public int[] getUnseenComposition() {
+    int[] counts = shoe.composition();
+    if (phase == GamePhase.PLAYER_TURN && dealerHand.size() >= 2) {
+      counts[dealerHand.get(1).getBlackjackValue()]++;
+    }
+    return counts;
+  }
+
+  /**
+   * Odds of the dealer's final hand as seen by the player, or {@code null} outside the player's
+   * turn. The round only reaches the player's turn without a dealer blackjack, so none is counted.
+   */
+  @Nullable
+  public DealerOdds dealerOdds(DealerOddsCalculator calculator) {
+    if (phase != GamePhase.PLAYER_TURN || dealerHand.isEmpty()) {
+      return null;
+    }
+    return calculator.odds(getUnseenComposition(), dealerHand.get(0)).withoutBlackjack();
+  }
+
+  // ─────────────── Dealer AI ───────────────
+
+  /**
+   * Dealer AI logic with configurable soft 17 rule. Public for testing.
+   *
+   * @param dealerHitsSoft17 true if dealer should hit soft 17, false if dealer should stand
+   * @return true if dealer took another card, false if dealer stands or game ended
+   */
+  public boolean hitDealer(boolean dealerHitsSoft17) {
+    if (phase != GamePhase.DEALER_TURN) {
+      CasinoCore.LOGGER.warn("[BlackjackGame] Cannot hit dealer: Phase is {}", phase);
+      return false;
+    }
+    journal.record(RoundJournal.Action.DEALER_HIT, dealerHitsSoft17 ? 1 : 0);
+
+    int dealerValue = dealerHand.value();
+
+    // Check if dealer should stand based on soft 17 rule
+    if (dealerValue > 17 || (dealerValue == 17 && shouldDealerStandOn17(dealerHitsSoft17))) {
+      CasinoCore.LOGGER.debug(
+          "[BlackjackGame] Dealer stands at {} (soft 17 rule: {})", dealerValue, !dealerHitsSoft17);
+      phase = GamePhase.FINISHED;
+      return false;
+    }
+
+    Card drawn = draw();
+    dealerHand.add(drawn);
+    CasinoCore.LOGGER.debug("[BlackjackGame] Dealer hits and draws {}", drawn);
+
+    // Check again after drawing
+    dealerValue = dealerHand.value();
+    if (dealerValue > 17 || (dealerValue == 17 && shouldDealerStandOn17(dealerHitsSoft17))) {
+      phase = GamePhase.FINISHED;
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Plays the dealer's whole turn in one pass: draws until the dealer stands under the given soft
+   * 17 rule, then finishes the round. The outcome is known as soon as this returns; the drawn
+   * cards come back as a {@link DealerTimeline} for the table to reveal at its own pace.
+   *
+   * @return the dealer's draws, or {@link DealerTimeline#NONE} outside the dealer's turn
+   */
+  public DealerTimeline playDealerTurn(boolean dealerHitsSoft17) {
+    if (phase != GamePhase.DEALER_TURN) {
+      // A finished round has nothing left for the dealer to do, e.g. when every seat busted
+      if (phase != GamePhase.FINISHED) {
+        CasinoCore.LOGGER.warn("[BlackjackGame] Cannot play dealer turn: Phase is {}", phase);
+      }
+      return DealerTimeline.NONE;
+    }
+    journal.record(RoundJournal.Action.DEALER_TURN, dealerHitsSoft17 ? 1 : 0);
+
+    int startCards = dealerHand.size();
+    int value = dealerHand.value();
+    while (value < 17 || (value == 17 && !shouldDealerStandOn17(dealerHitsSoft17))) {
+      dealerHand.add(draw());
+      value = dealerHand.value();
+    }
+    phase = GamePhase.FINISHED;
+
+    byte[] drawn = new byte[dealerHand.size() - startCards];
+    for (int i = 0; i < drawn.length; i++) {
+      drawn[i] = (byte) dealerHand.getId(startCards + i);
+    }
+    CasinoCore.LOGGER.debug(
+        "[BlackjackGame] Dealer draws {} card(s) and stands at {}", drawn.length, value);
+    return new DealerTimeline(startCards, drawn, value);
+  }
+
+  /**
+   * Determines if the dealer should stand on 17 based on the provided soft 17 configuration. This
+   * method is package-private for testing purposes.
+   *
+   * @param dealerHitsSoft17 true if dealer should hit soft 17, false if dealer should stand
+   * @return true if dealer should stand, false if dealer should hit
+   */
+  boolean shouldDealerStandOn17(boolean dealerHitsSoft17) {
+    // If dealer hits soft 17 is enabled, only stand on hard 17
+    if (dealerHitsSoft17) {
+      return !dealerHand.isSoftSeventeen();
+    } else {
+      // Dealer stands on all 17s (soft and hard)
+      return true;
+    }
+  }
+
+  // ─────────────── Result Evaluation ───────────────
+
+  @Nullable
+  public Result getResult() {
+    Result result = (phase == GamePhase.FINISHED) ? determineResult() : null;
+    CasinoCore.LOGGER.trace(
+        "[BlackjackGame] getResult() → Phase: {}, Result: {}",
+        phase.name(),
+        (result != null) ? result.name() : "null");
+    return result;
+  }
+
+  public Result determineResult() {
+    if (phase != GamePhase.FINISHED) {
+      CasinoCore.LOGGER.warn("[BlackjackGame] Result requested before game finished.");
+      return Result.UNFINISHED;
+    }
+
+    // For split hands, this method returns the overall result
+    // Individual hand results should be checked with determineResult(handIndex)
+    Seat seat = seats[activeSeat];
+    if (!seat.hasSplit && !seat.hands.isEmpty()) {
+      CasinoCore.LOGGER.debug(
+          "[BlackjackGame] Final scores → Player: {}, Dealer: {}",
+          seat.hands.get(0).value(),
+          dealerHand.value());
+    }
+    return determineSeatResult(activeSeat);
+  }
+
+  public Result determineResult(int handIndex) {
+    if (phase != GamePhase.FINISHED) {
+      return Result.UNFINISHED;
+    }
+
+    List<HandState> playerHands = seats[activeSeat].hands;
+    if (handIndex < 0 || handIndex >= playerHands.size()) {
+      return Result.LOSE;
+    }
+    return compare(playerHands.get(handIndex));
+  }
+
+  public boolean isBlackjack() {
+    // For backward compatibility, check the first hand or current hand
+    Seat seat = seats[activeSeat];
+    HandState hand = seat.currentHand();
+    if (hand == null && !seat.hands.isEmpty()) {
+      hand = seat.hands.get(0);
+    }
+    return hand != null && hand.isBlackjack();
+  }
+
+  public boolean isBlackjack(int handIndex) {
+    Seat seat = seats[activeSeat];
+    if (handIndex < 0 || handIndex >= seat.hands.size()) {
+      return false;
+    }
+
+    // Hands resulting from splits cannot be blackjack (traditional blackjack rule)
+    if (seat.hasSplit) {
+      return false;
+    }
+
+    return seat.hands.get(handIndex).isBlackjack();
+  }
+
+  public boolean isDealerBlackjack() {
+    return dealerHand.isBlackjack();
+  }
+
+  // ─────────────── Helpers ───────────────
+
+  public Card draw() {
+    if (shoe.isEmpty()) {
+      CasinoCore.LOGGER.error("[BlackjackGame] Attempted to draw from empty deck! Reshuffling...");
+      // Emergency reshuffle - refill the shoe in place and shuffle
+      refillShoe();
+      CasinoCore.LOGGER.info(
+          "[BlackjackGame] Emergency reshuffled deck with {} cards from {} deck(s)",
+          shoe.remaining(),
+          numberOfDecks);
+    }
+
+    Card card = shoe.draw();
+    CasinoCore.LOGGER.trace("[BlackjackGame] Drawing card: {}", card);
+    return card;
+  }
+
+  /**
+   * Starts a fresh shoe, taking a pre-shuffled one from the shared {@link ShoePool} when available
+   * and shuffling on the calling thread otherwise.
+   */
+  private void refillShoe() {
+    if (replaySeeds != null && replaySeedIndex < replaySeeds.length) {
+      shoe.fill(numberOfDecks);
+      shoe.shuffle(replaySeeds[replaySeedIndex++]);
+    } else {
+      // Seeded tables skip the pool so their sequence of shoes stays reproducible
+      ShoePool pool = deterministic ? null : ShoePool.active();
+      if (pool == null || !pool.take(numberOfDecks, shoe)) {
+        shoe.fill(numberOfDecks);
+        shoe.shuffle(random.nextLong());
+      }
+    }
+    // Only reached mid-round when the shoe runs dry; the journal needs the new order to replay it
+    shoe.getSeed().ifPresent(journal::recordShuffle);
+  }
+
+  /** Deals one card to the active seat's current hand, ensuring a hand exists. */
+  public void dealToPlayer() {
+    dealToSeat(activeSeat);
+  }
+
+  /** Deals one card to the dealer's hand. */
+  public void dealToDealer() {
+    journal.record(RoundJournal.Action.DEAL_DEALER);
+    dealerHand.add(draw());
+  }
+
+  /**
+   * Returns the best total for a hand. O(1) for a {@link HandState} or one of its views, which
+   * every hand held or handed out by this game is; other lists are walked card by card.
+   */
+  public int getHandValue(List<Card> hand) {
+    HandState state = HandState.unwrap(hand);
+    if (state != null) {
+      return state.value();
+    }
+
+    int total = 0;
+    int aceCount = 0;
+
+    for (Card card : hand) {
+      total += card.getBlackjackValue();
+      if (card.isAce()) aceCount++;
+    }
+
+    while (aceCount > 0 && total + 10 <= 21) {
+      total += 10;
+      aceCount--;
+    }
+
+    return total;
+  }
+
+  /**
+   * Checks if a hand is a "soft 17" - total of 17 with at least one Ace counted as 11. Examples:
+   * A-6, A-2-4, A-A-5, etc.
+   */
+  public boolean isSoftSeventeen(List<Card> hand) {
+    HandState state = HandState.unwrap(hand);
+    if (state != null) {
+      return state.isSoftSeventeen();
+    }
+
+    if (getHandValue(hand) != 17) {
+      return false;
+    }
+
+    // Count aces and calculate if any ace is being counted as 11
+    int aceCount = 0;
+    int totalWithoutAces = 0;
+
+    for (Card card : hand) {
+      if (card.isAce()) {
+        aceCount++;
+      } else {
+        totalWithoutAces += card.getBlackjackValue();
+      }
+    }
+
+    // If we have aces and the total is 17, check if any ace is counted as 11
+    if (aceCount > 0) {
+      // Try counting all aces as 1 first
+      int minTotal = totalWithoutAces + aceCount;
+
+      // If we can add 10 to make exactly 17, then we have a soft 17
+      return minTotal + 10 == 17;
+    }
+
+    return false;
+  }
+
+  private String formatHand(List<Card> hand) {
+    return hand.stream().map(Card::toString).reduce((a, b) -> a + ", " + b).orElse("(empty)");
+  }
+
+  // ─────────────── Accessors ───────────────
+
+  /**
+   * Read-only view of the active seat's current hand (the first hand unless split). Views follow
+   * the game as it changes and are never copied, so they are cheap to fetch every frame.
+   */
+  public List<Card> getPlayerHand() {
+    return seats[activeSeat].getCurrentHand();
+  }
+
+  /** Read-only view of the active seat's hand at {@code handIndex}, or an empty list. */
+  public List<Card> getPlayerHand(int handIndex) {
+    return seats[activeSeat].getHand(handIndex);
+  }
+
+  /** Read-only view of every hand of the active seat; the same instance for a given seat. */
+  public List<List<Card>> getAllPlayerHands() {
+    return seats[activeSeat].getHands();
+  }
+
+  /** Read-only view of the dealer's hand; always the same instance. */
+  public List<Card> getDealerHand() {
+    return dealerHand.view();
+  }
+
+  public GamePhase getPhase() {
+    return phase;
+  }
+
+  /** Forces the phase, e.g. to end the round on a dealer blackjack. Recorded in the journal. */
+  public void setPhase(GamePhase phase) {
+    journal.record(RoundJournal.Action.PHASE, phase.ordinal());
+    this.phase = phase;
+  }
+
+  // ─────────────── Testing Helper Methods ───────────────
+  // These methods provide direct access for testing purposes only
+  // They should NOT be used in production code
+
+  /**
+   * Gets the actual player hand list for testing purposes. WARNING: This breaks encapsulation and
+   * should only be used in tests!
+   */
+  public HandState getPlayerHandDirect() {
+    // For backward compatibility, return the first hand (or current hand in split scenarios)
+    Seat seat = seats[activeSeat];
+    List<HandState> playerHands = seat.hands;
+    if (playerHands.isEmpty()) {
+      // If no hands exist, create one for backward compatibility
+      seat.addHand();
+    }
+
+    if (seat.hasSplit) {
+      // In split scenarios, return the current hand
+      HandState currentHand = getCurrentHand();
+      return currentHand != null ? currentHand : playerHands.get(0);
+    } else {
+      // In single-hand scenarios, always return the first hand
+      return playerHands.get(0);
+    }
+  }
+
+  /**
+   * Gets the actual player hand list by index for testing purposes. WARNING: This breaks
+   * encapsulation and should only be used in tests!
+   */
+  public HandState getPlayerHandDirect(int handIndex) {
+    List<HandState> playerHands = seats[activeSeat].hands;
+    if (handIndex < 0 || handIndex >= playerHands.size()) {
+      return new HandState();
+    }
+    return playerHands.get(handIndex);
+  }
+
+  /**
+   * Gets all actual player hands for testing purposes. The list is read-only; set hands up through
+   * the seat's {@code reset} and {@code addHand}. WARNING: This breaks encapsulation and should
+   * only be used in tests!
+   */
+  public List<HandState> getAllPlayerHandsDirect() {
+    return seats[activeSeat].hands;
+  }
+
+  /**
+   * Gets the actual dealer hand list for testing purposes. WARNING: This breaks encapsulation and
+   * should only be used in tests!
+   */
+  public HandState getDealerHandDirect() {
+    return dealerHand;
+  }
+
+  // ────────────────────── Journal ──────────────────────
+
+  /**
+   * The current round's journal, which grows as the round is played. Changes made through the
+   * direct testing helpers above are not recorded.
+   */
+  public RoundJournal getJournal() {
+    return journal;
+  }
+
+  /**
+   * Replaces this table's state with the round recorded in {@code source}: restores the rules and
+   * the shoe the round started with, then repeats every action. Afterwards this table's journal
+   * matches {@code source}.
+   */
+  void replay(RoundJournal source) {
+    numberOfDecks = source.getDeckCount();
+    setMaxHands(source.getMaxHands());
+    setResplitAces(source.isResplitAces());
+    setHitSplitAces(source.isHitSplitAces());
+    source.restoreShoe(shoe);
+
+    replaySeeds = source.getShuffleSeeds();
+    replaySeedIndex = 0;
+    try {
+      startGame(source.getDeckCount(), source.getSeats());
+      source.applyActions(this);
+    } finally {
+      replaySeeds = null;
+    }
+  }
+
+  // ────────────────────── Randomness ──────────────────────
+
+  /**
+   * Reseeds this table so that every following shoe is derived from {@code seed}. Seeded tables
+   * always shuffle themselves instead of taking shoes from the shared pool.
+   */
+  public void setSeed(long seed) {
+    setRandom(new SplittableRandom(seed));
+  }
+
+  /** Replaces the generator that seeds this table's shuffles, e.g. for simulations. */
+  public void setRandom(RandomGenerator random) {
+    this.random = Objects.requireNonNull(random);
+    this.deterministic = true;
+  }
+
+  /**
+   * Reseeds a table seeded with {@code seed} that has just been loaded. The generator's state is
+   * not saved, so rather than start over and deal the same shoes again, the sequence carries on
+   * from the seed of the saved shoe.
+   */
+  public void resumeSeed(long seed) {
+    OptionalLong shoeSeed = shoe.getSeed();
+    setSeed(shoeSeed.isPresent() ? seed ^ shoeSeed.getAsLong() : seed);
+  }
+
+  /** Goes back to unseeded shuffles, taking shoes from the shared pool again. */
+  public void clearSeed() {
+    random = new SplittableRandom();
+    deterministic = false;
+  }
+
+  /** Whether this table's shuffles follow a seed rather than fresh randomness. */
+  public boolean isSeeded() {
+    return deterministic;
+  }
+
+  /**
+   * Seed of the current shoe's shuffle. Refilling a shoe with the same deck count and shuffling it
+   * with this seed reproduces the exact card order.
+   */
+  public OptionalLong getShoeSeed() {
+    return shoe.getSeed();
+  }
+
+  // ────────────────────── Number of Decks ──────────────────────
+
+  /** Number of undealt cards left in the shoe. */
+  public int getCardsRemaining() {
+    return shoe.remaining();
+  }
+
+  /** True when the cut card has been reached and the next round will start a fresh shoe. */
+  public boolean isShuffleDue() {
+    return shuffleDue();
+  }
+
+  private boolean shuffleDue() {
+    // A continuously shuffled shoe only needs refilling if it is missing cards between rounds
+    return continuousShuffle ? shoe.dealt() > 0 : shoe.isPastCutCard();
+  }
+
+  public boolean isContinuousShuffle() {
+    return continuousShuffle;
+  }
+
+  /**
+   * Turns continuous shuffling on or off. When on, every round's cards are shuffled back into the
+   * shoe as the round ends, so the shoe never runs down to a cut card or needs a full reshuffle.
+   * Turning it on part way through a shoe starts a fresh one at the next round.
+   */
+  public void setContinuousShuffle(boolean continuousShuffle) {
+    this.continuousShuffle = continuousShuffle;
+  }
+
+  /**
+   * Undealt cards of {@code rank}, from 1 (ace) to 13 (king). Cards dealt face down, such as the
+   * dealer's hole card, are no longer counted.
+   */
+  public int getRemainingOfRank(int rank) {
+    return shoe.remainingOfRank(rank);
+  }
+
+  /**
+   * Hi-Lo running count of every card dealt from the current shoe, face down or not: +1 for each
+   * 2-6, -1 for each ten-valued card or ace.
+   */
+  public int getRunningCount() {
+    return shoe.getRunningCount();
+  }
+
+  /** {@link #getRunningCount()} per deck still in the shoe. */
+  public double getTrueCount() {
+    return shoe.getTrueCount();
+  }
+
+  public double getPenetration() {
+    return shoe.getPenetration();
+  }
+
+  /** Sets the cut-card penetration as a fraction of the shoe, clamped to 0.25-0.95. */
+  public void setPenetration(double penetration) {
+    shoe.setPenetration(penetration);
+  }
+
+  public int getNumberOfDecks() {
+    return numberOfDecks;
+  }
+
+  public void setNumberOfDecks(int numberOfDecks) {
+    this.numberOfDecks = Math.max(1, Math.min(8, numberOfDecks));
+  }
+}
@@ -0,0 +1,181 @@
+package com.example.casinomod.blackjack;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class Card {
+  /** Number of distinct cards in a standard deck, and the size of the ID space. */
+  public static final int COUNT = 52;
+
+  private static final Suit[] SUITS = Suit.values();
+  private static final Card[] BY_ID = new Card[COUNT];
+
+  // Interned names, built once: getCardName() and fromName() are lookups for canonical names
+  private static final String[] NAMES = new String[COUNT];
+  private static final Map<String, Card> BY_NAME = new HashMap<>(COUNT * 2);
+
+  static {
+    for (int id = 0; id < COUNT; id++) {
+      Card card = new Card(id / SUITS.length + 1, SUITS[id % SUITS.length]);
+      BY_ID[id] = card;
+      NAMES[id] = buildName(card.value, card.suit);
+      BY_NAME.put(NAMES[id], card);
+    }
+  }
+
+  private final int value;
+  private final Suit suit;
+
+  public Card(int value, Suit suit) {
+    if (value < 1 || value > 13) {
+      throw new IllegalArgumentException(
+          "Invalid card value: " + value + ". Must be between 1 and 13.");
+    }
+    if (suit == null) {
+      throw new IllegalArgumentException("Suit cannot be null");
+    }
+    this.value = value;
+    this.suit = suit;
+  }
+
+  /**
+   * Returns the shared instance for a card. Prefer this over the constructor so that decks and
+   * hands reuse the 52 canonical cards instead of allocating.
+   */
+  public static Card of(int value, Suit suit) {
+    if (value < 1 || value > 13) {
+      throw new IllegalArgumentException(
+          "Invalid card value: " + value + ". Must be between 1 and 13.");
+    }
+    if (suit == null) {
+      throw new IllegalArgumentException("Suit cannot be null");
+    }
+    return BY_ID[(value - 1) * SUITS.length + suit.ordinal()];
+  }
+
+  /** Returns the canonical card for a compact ID in {@code [0, 52)}, as produced by ordinal(). */
+  public static Card byId(int id) {
+    if (id < 0 || id >= COUNT) {
+      throw new IllegalArgumentException("Invalid card id: " + id + ". Must be between 0 and 51.");
+    }
+    return BY_ID[id];
+  }
+
+  /** Compact ID of this card: {@code (value - 1) * 4 + suit.ordinal()}, fits in a byte. */
+  public int ordinal() {
+    return (value - 1) * SUITS.length + suit.ordinal();
+  }
+
+  public int getValue() {
+    return value;
+  }
+
+  public Suit getSuit() {
+    return suit;
+  }
+
+  /** Name such as {@code "hearts_ace"} or {@code "spades_10"}; an interned constant. */
+  public String getCardName() {
+    return NAMES[ordinal()];
+  }
+
+  private static String buildName(int value, Suit suit) {
+    String name =
+        switch (value) {
+          case 1 -> "ace";
+          case 11 -> "j";
+          case 12 -> "q";
+          case 13 -> "k";
+          default -> String.valueOf(value);
+        };
+    return suit.name().toLowerCase(Locale.ROOT) + "_" + name;
+  }
+
+  @Override
+  public String toString() {
+    return getCardName();
+  }
+
+  /**
+   * Parses a name produced by {@link #getCardName()}, ignoring case. Canonical names are a single
+   * table lookup; anything else is parsed in full so invalid names get a specific error.
+   *
+   * @throws IllegalArgumentException if the name is not a valid card
+   */
+  public static Card fromName(String name) {
+    Card interned = name == null ? null : BY_NAME.get(name);
+    if (interned != null) {
+      return interned;
+    }
+    if (name == null || name.trim().isEmpty()) {
+      throw new IllegalArgumentException("Card name cannot be null or empty");
+    }
+
+    String[] parts = name.split("_");
+    if (parts.length != 2) {
+      throw new IllegalArgumentException(
+          "Invalid card name format: " + name + ". Expected format: suit_rank");
+    }
+
+    String suitStr = parts[0];
+    String rankStr = parts[1];
+
+    if (suitStr.trim().isEmpty() || rankStr.trim().isEmpty()) {
+      throw new IllegalArgumentException(
+          "Invalid card name: " + name + ". Suit and rank cannot be empty");
+    }
+
+    Suit suit;
+    try {
+      suit = Suit.valueOf(suitStr.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Invalid suit: " + suitStr + ". Valid suits: hearts, diamonds, clubs, spades");
+    }
+
+    int value;
+    try {
+      value =
+          switch (rankStr.toLowerCase()) {
+            case "ace" -> 1;
+            case "j" -> 11;
+            case "q" -> 12;
+            case "k" -> 13;
+            default -> {
+              int parsedValue = Integer.parseInt(rankStr);
+              if (parsedValue < 2 || parsedValue > 10) {
+                throw new IllegalArgumentException(
+                    "Invalid numeric rank: " + rankStr + ". Must be 2-10");
+              }
+              yield parsedValue;
+            }
+          };
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Invalid rank: " + rankStr + ". Must be ace, j, q, k, or 2-10");
+    }
+
+    return of(value, suit);
+  }
+
+  public int getBlackjackValue() {
+    return (value >= 10) ? 10 : value;
+  }
+
+  public boolean isAce() {
+    return value == 1;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof Card other)) return false;
+    return value == other.value && suit == other.suit;
+  }
+
+  @Override
+  public int hashCode() {
+    return ordinal();
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.casinomod.blackjack;
+
+import java.util.Arrays;
+
+/**
+ * Probabilities of each way the dealer's hand can finish: standing on 17-21, busting, or a
+ * two-card blackjack. Produced by {@link DealerOddsCalculator}.
+ */
+public final class DealerOdds {
+  static final int OUTCOMES = 7;
+  static final int BUST = 5;
+  static final int BLACKJACK = 6;
+
+  private final double[] probabilities;
+
+  DealerOdds(double[] probabilities) {
+    this.probabilities = Arrays.copyOf(probabilities, OUTCOMES);
+  }
+
+  /** Probability the dealer stands on {@code total} (17-21), not counting blackjacks. */
+  public double probabilityOf(int total) {
+    if (total < 17 || total > 21) {
+      throw new IllegalArgumentException("Dealer totals run from 17 to 21, got " + total);
+    }
+    return probabilities[total - 17];
+  }
+
+  public double getBust() {
+    return probabilities[BUST];
+  }
+
+  public double getBlackjack() {
+    return probabilities[BLACKJACK];
+  }
+
+  /**
+   * The same odds given that the dealer does not have blackjack, which is what the player knows
+   * once the round reaches their turn.
+   */
+  public DealerOdds withoutBlackjack() {
+    double remaining = 1 - getBlackjack();
+    double[] conditioned = new double[OUTCOMES];
+    if (remaining > 0) {
+      for (int i = 0; i < BLACKJACK; i++) {
+        conditioned[i] = probabilities[i] / remaining;
+      }
+    }
+    return new DealerOdds(conditioned);
+  }
+
+  /**
+   * Expected result of standing on {@code playerTotal}, in bets: chance of winning minus chance of
+   * losing, with ties pushing as in {@link BlackjackGame#determineResult(int)}.
+   */
+  public double standEv(int playerTotal) {
+    if (playerTotal > 21) return -1;
+    double ev = getBust();
+    for (int total = 17; total <= 21; total++) {
+      double p = probabilityOf(total);
+      if (playerTotal > total) ev += p;
+      else if (playerTotal < total) ev -= p;
+    }
+    // The game compares totals only, so a dealer blackjack pushes against any player 21
+    if (playerTotal < 21) ev -= getBlackjack();
+    return ev;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "DealerOdds[17=%.4f, 18=%.4f, 19=%.4f, 20=%.4f, 21=%.4f, bust=%.4f, blackjack=%.4f]",
+        probabilities[0],
+        probabilities[1],
+        probabilities[2],
+        probabilities[3],
+        probabilities[4],
+        getBust(),
+        getBlackjack());
+  }
+}
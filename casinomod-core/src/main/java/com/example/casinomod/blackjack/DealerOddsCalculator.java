@@ -0,0 +1,158 @@
+package com.example.casinomod.blackjack;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes exact dealer outcome probabilities for a given composition of unseen cards and dealer
+ * up-card. The dealer plays by the same rules as {@link BlackjackGame#playDealerTurn(boolean)}:
+ * draw below 17, stand on 17 or more, and hit soft 17 only when the table says so.
+ *
+ * <p>Every intermediate result is memoized by the remaining rank counts and the dealer's hand, so
+ * queries later in the same shoe reuse most of the earlier work. The cache is bounded and evicts
+ * the least recently used entries. Instances are not thread-safe; use one per thread.
+ */
+public class DealerOddsCalculator {
+  public static final int DEFAULT_CACHE_SIZE = 1 << 16;
+
+  // Rank counts are packed into a long: 6 bits each for aces to nines, 8 bits for tens
+  private static final int[] SHIFT = {0, 0, 6, 12, 18, 24, 30, 36, 42, 48, 54};
+  private static final int MAX_RANK_COUNT = 63;
+  private static final int MAX_TEN_COUNT = 255;
+
+  // Shared results for finished hands, one per outcome
+  private static final double[][] SINGLE = new double[DealerOdds.OUTCOMES][DealerOdds.OUTCOMES];
+
+  static {
+    for (int i = 0; i < DealerOdds.OUTCOMES; i++) {
+      SINGLE[i][i] = 1;
+    }
+  }
+
+  private final boolean dealerHitsSoft17;
+  private final Map<Key, double[]> cache;
+  private long hits = 0;
+  private long misses = 0;
+
+  public DealerOddsCalculator(boolean dealerHitsSoft17) {
+    this(dealerHitsSoft17, DEFAULT_CACHE_SIZE);
+  }
+
+  public DealerOddsCalculator(boolean dealerHitsSoft17, int maxCacheEntries) {
+    this.dealerHitsSoft17 = dealerHitsSoft17;
+    this.cache =
+        new LinkedHashMap<>(256, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, double[]> eldest) {
+            return size() > maxCacheEntries;
+          }
+        };
+  }
+
+  /**
+   * Odds for the dealer's final hand.
+   *
+   * @param unseen cards the dealer may still draw, by blackjack value (index 1 = aces, 10 = tens),
+   *     including the hole card if it has not been revealed; see {@link Shoe#composition()}
+   * @param upCard the dealer's face-up card, already removed from {@code unseen}
+   * @throws IllegalArgumentException if the composition is empty or malformed
+   */
+  public DealerOdds odds(int[] unseen, Card upCard) {
+    long packed = pack(unseen);
+    int[] counts = unseen.clone();
+    return new DealerOdds(outcomes(counts, packed, upCard.getBlackjackValue(), upCard.isAce(), 1));
+  }
+
+  private static long pack(int[] counts) {
+    if (counts.length != 11) {
+      throw new IllegalArgumentException("Composition needs 11 entries, got " + counts.length);
+    }
+    long packed = 0;
+    int total = 0;
+    for (int value = 1; value <= 10; value++) {
+      int max = value == 10 ? MAX_TEN_COUNT : MAX_RANK_COUNT;
+      if (counts[value] < 0 || counts[value] > max) {
+        throw new IllegalArgumentException("Invalid count " + counts[value] + " for " + value);
+      }
+      packed += (long) counts[value] << SHIFT[value];
+      total += counts[value];
+    }
+    if (total == 0) {
+      throw new IllegalArgumentException("Composition is empty");
+    }
+    return packed;
+  }
+
+  // ─────────────── Recursion ───────────────
+
+  private double[] outcomes(int[] counts, long packed, int hardTotal, boolean hasAce, int cards) {
+    boolean soft = hasAce && hardTotal + 10 <= 21;
+    int value = soft ? hardTotal + 10 : hardTotal;
+
+    if (cards == 2 && value == 21) return single(DealerOdds.BLACKJACK);
+    if (hardTotal > 21) return single(DealerOdds.BUST);
+    boolean hitsSoft17 = dealerHitsSoft17 && soft && hardTotal == 7;
+    if (value >= 17 && !hitsSoft17) return single(value - 17);
+
+    Key key = new Key(packed, hardTotal | (hasAce ? 32 : 0) | Math.min(cards, 3) << 6);
+    double[] cached = cache.get(key);
+    if (cached != null) {
+      hits++;
+      return cached;
+    }
+    misses++;
+
+    int total = 0;
+    for (int v = 1; v <= 10; v++) {
+      total += counts[v];
+    }
+
+    double[] result = new double[DealerOdds.OUTCOMES];
+    if (total == 0) {
+      // Only reachable with tiny compositions; counted as a bust, which it is to a standing player
+      result[DealerOdds.BUST] = 1;
+    }
+    for (int v = 1; v <= 10; v++) {
+      if (counts[v] == 0) continue;
+      double p = (double) counts[v] / total;
+      counts[v]--;
+      double[] next =
+          outcomes(counts, packed - (1L << SHIFT[v]), hardTotal + v, hasAce || v == 1, cards + 1);
+      counts[v]++;
+      for (int i = 0; i < DealerOdds.OUTCOMES; i++) {
+        result[i] += p * next[i];
+      }
+    }
+
+    cache.put(key, result);
+    return result;
+  }
+
+  private static double[] single(int outcome) {
+    return SINGLE[outcome];
+  }
+
+  private record Key(long counts, int hand) {}
+
+  // ─────────────── Cache Statistics ───────────────
+
+  public boolean isDealerHitsSoft17() {
+    return dealerHitsSoft17;
+  }
+
+  public int getCacheSize() {
+    return cache.size();
+  }
+
+  public long getCacheHits() {
+    return hits;
+  }
+
+  public long getCacheMisses() {
+    return misses;
+  }
+
+  public void clearCache() {
+    cache.clear();
+  }
+}
@@ -0,0 +1,52 @@
+package com.example.casinomod.blackjack;
+
+/**
+ * The dealer's turn as resolved in one pass by {@link BlackjackGame#playDealerTurn(boolean)}: the
+ * cards the dealer drew, in order, and the hand they made. The outcome is settled as soon as the
+ * timeline exists; a table only uses it to reveal the draws to players one step at a time.
+ *
+ * <p>Step 0 shows the dealer's hand as it was before drawing, with the hole card turned over; each
+ * later step reveals one more drawn card.
+ */
+public final class DealerTimeline {
+  /** Timeline for a turn in which the dealer did not play, e.g. because every seat busted. */
+  public static final DealerTimeline NONE = new DealerTimeline(0, new byte[0], 0);
+
+  private final int startCards;
+  private final byte[] drawn;
+  private final int finalValue;
+
+  DealerTimeline(int startCards, byte[] drawn, int finalValue) {
+    this.startCards = startCards;
+    this.drawn = drawn;
+    this.finalValue = finalValue;
+  }
+
+  /** Cards the dealer held before drawing. */
+  public int getStartCards() {
+    return startCards;
+  }
+
+  /** Number of cards drawn, and so of reveal steps after the first. */
+  public int size() {
+    return drawn.length;
+  }
+
+  public Card drawnAt(int index) {
+    return Card.byId(drawn[index]);
+  }
+
+  /** Dealer cards visible once {@code step} draws have been revealed. */
+  public int cardsShownAt(int step) {
+    return startCards + Math.max(0, Math.min(drawn.length, step));
+  }
+
+  /** Value of the dealer's final hand. */
+  public int getFinalValue() {
+    return finalValue;
+  }
+
+  public boolean isBust() {
+    return finalValue > 21;
+  }
+}
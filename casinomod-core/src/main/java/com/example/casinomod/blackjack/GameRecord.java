@@ -0,0 +1,28 @@
+package com.example.casinomod.blackjack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/** Minimal audit record for a completed blackjack game. */
+public class GameRecord {
+  public long startEpochMs;
+  public long endEpochMs;
+  public BlackjackGame.Result result;
+  public int betCount;
+  public int payoutCount;
+  public boolean doubledDown;
+  public boolean split;
+  public int dealerScore;
+  public List<Integer> playerScores = new ArrayList<>();
+  /** Items staked on each hand, in the same order as {@link #playerScores}. */
+  public List<Integer> handBets = new ArrayList<>();
+  /**
+   * Journal of the round, for replaying disputed hands. Server-side only: it reveals the shoe, so
+   * it is neither sent to clients nor saved with the audit preview.
+   */
+  @Nullable public RoundJournal journal;
+
+  public GameRecord() {}
+}
@@ -0,0 +1,200 @@
+package com.example.casinomod.blackjack;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A blackjack hand that keeps its hard total and ace count up to date as cards are added, so
+ * value, bust, blackjack and soft 17 checks are O(1). Cards are stored as compact IDs (see {@link
+ * Card#ordinal()}). Still a {@code List<Card>}, so existing callers and tests keep working.
+ *
+ * <p>{@link #view()} hands out a read-only live view that is created once per hand, so accessors
+ * called every frame do not copy.
+ */
+public class HandState extends AbstractList<Card> implements RandomAccess {
+  private static final int INITIAL_CAPACITY = 8;
+
+  private byte[] cards;
+  private int size = 0;
+  private int hardTotal = 0; // every ace counted as 1
+  private int aceCount = 0;
+  private View view;
+
+  public HandState() {
+    this.cards = new byte[INITIAL_CAPACITY];
+  }
+
+  /** Copies another hand, including its running totals. */
+  public HandState(HandState other) {
+    this.cards = Arrays.copyOf(other.cards, Math.max(INITIAL_CAPACITY, other.size));
+    this.size = other.size;
+    this.hardTotal = other.hardTotal;
+    this.aceCount = other.aceCount;
+  }
+
+  // ─────────────── Mutation ───────────────
+
+  @Override
+  public boolean add(Card card) {
+    addId(card.ordinal());
+    return true;
+  }
+
+  /** Appends a card by its compact ID in O(1). */
+  public void addId(int id) {
+    Card card = Card.byId(id);
+    if (size == cards.length) {
+      cards = Arrays.copyOf(cards, size * 2);
+    }
+    cards[size++] = (byte) id;
+    count(card, 1);
+    modCount++;
+  }
+
+  @Override
+  public void add(int index, Card card) {
+    if (index == size) {
+      add(card);
+      return;
+    }
+    Objects.checkIndex(index, size);
+    if (size == cards.length) {
+      cards = Arrays.copyOf(cards, size * 2);
+    }
+    System.arraycopy(cards, index, cards, index + 1, size - index);
+    cards[index] = (byte) card.ordinal();
+    size++;
+    count(card, 1);
+    modCount++;
+  }
+
+  @Override
+  public Card set(int index, Card card) {
+    Objects.checkIndex(index, size);
+    Card previous = Card.byId(cards[index]);
+    cards[index] = (byte) card.ordinal();
+    count(previous, -1);
+    count(card, 1);
+    return previous;
+  }
+
+  @Override
+  public Card remove(int index) {
+    Objects.checkIndex(index, size);
+    Card removed = Card.byId(cards[index]);
+    System.arraycopy(cards, index + 1, cards, index, size - index - 1);
+    size--;
+    count(removed, -1);
+    modCount++;
+    return removed;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+    hardTotal = 0;
+    aceCount = 0;
+    modCount++;
+  }
+
+  private void count(Card card, int sign) {
+    hardTotal += sign * card.getBlackjackValue();
+    if (card.isAce()) aceCount += sign;
+  }
+
+  // ─────────────── List Access ───────────────
+
+  @Override
+  public Card get(int index) {
+    Objects.checkIndex(index, size);
+    return Card.byId(cards[index]);
+  }
+
+  /** Compact ID of the card at {@code index}. */
+  public int getId(int index) {
+    Objects.checkIndex(index, size);
+    return cards[index];
+  }
+
+  /** Copies the card IDs in order, one byte each, for compact persistence. */
+  public byte[] cardIds() {
+    return Arrays.copyOf(cards, size);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  // ─────────────── Read-Only View ───────────────
+
+  /** Read-only view of this hand that follows later changes. Always the same instance. */
+  public List<Card> view() {
+    if (view == null) {
+      view = new View(this);
+    }
+    return view;
+  }
+
+  /** The hand behind {@code cards} if it is a hand or a view of one, otherwise {@code null}. */
+  static HandState unwrap(List<Card> cards) {
+    if (cards instanceof HandState hand) return hand;
+    if (cards instanceof View view) return view.hand;
+    return null;
+  }
+
+  private static final class View extends AbstractList<Card> implements RandomAccess {
+    private final HandState hand;
+
+    View(HandState hand) {
+      this.hand = hand;
+    }
+
+    @Override
+    public Card get(int index) {
+      return hand.get(index);
+    }
+
+    @Override
+    public int size() {
+      return hand.size;
+    }
+  }
+
+  // ─────────────── Hand Queries ───────────────
+
+  /** Best total, counting one ace as 11 when that does not bust. */
+  public int value() {
+    return isSoft() ? hardTotal + 10 : hardTotal;
+  }
+
+  /** Total with every ace counted as 1. */
+  public int hardTotal() {
+    return hardTotal;
+  }
+
+  public int aceCount() {
+    return aceCount;
+  }
+
+  /** True if an ace is currently being counted as 11. */
+  public boolean isSoft() {
+    return aceCount > 0 && hardTotal + 10 <= 21;
+  }
+
+  public boolean isBusted() {
+    return hardTotal > 21;
+  }
+
+  /** Two-card 21. Whether a split hand may count as blackjack is decided by the game. */
+  public boolean isBlackjack() {
+    return size == 2 && value() == 21;
+  }
+
+  public boolean isSoftSeventeen() {
+    return isSoft() && hardTotal == 7;
+  }
+}
@@ -0,0 +1,9 @@
+package com.example.casinomod.blackjack;
+
+/** A decision the player can make on their current hand. */
+public enum PlayerAction {
+  HIT,
+  STAND,
+  DOUBLE,
+  SPLIT
+}
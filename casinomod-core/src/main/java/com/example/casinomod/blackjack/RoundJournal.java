@@ -0,0 +1,327 @@
+package com.example.casinomod.blackjack;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import com.example.casinomod.core.StateInput;
+import com.example.casinomod.core.StateOutput;
+
+/**
+ * Compact record of one round at a {@link BlackjackGame} table: the shoe and rules the round
+ * started with, followed by every action taken, one byte each. Replaying the actions against the
+ * same shoe rebuilds the round exactly, so a saved journal stands in for the full table state and
+ * any disputed hand can be dealt again card for card.
+ *
+ * <p>A seeded shoe is stored as its seed and the number of cards already dealt; other shoes keep
+ * their undealt card order. Emergency reshuffles mid-round are recorded by seed.
+ *
+ * <p>The journal reveals the order of the undealt cards, so it must never be sent to clients.
+ */
+public final class RoundJournal {
+  /** Something that happened at the table, stored as {@code ordinal << 4 | operand}. */
+  public enum Action {
+    /** A card dealt to a seat; the operand is the seat index. */
+    DEAL,
+    DEAL_DEALER,
+    HIT,
+    STAND,
+    DOUBLE,
+    SPLIT,
+    /** One step of the dealer's turn; the operand is 1 when the dealer hits soft 17. */
+    DEALER_HIT,
+    /** A phase set from outside the game; the operand is the phase ordinal. */
+    PHASE,
+    /** The dealer's whole turn at once; the operand is 1 when the dealer hits soft 17. */
+    DEALER_TURN;
+
+    static final Action[] VALUES = values();
+  }
+
+  private static final int OPERAND_BITS = 4;
+  private static final int OPERAND_MASK = (1 << OPERAND_BITS) - 1;
+
+  private boolean active = false;
+  private int deckCount = 1;
+  private double penetration = Shoe.DEFAULT_PENETRATION;
+  private int maxHands = Seat.MAX_HANDS;
+  private boolean resplitAces = false;
+  private boolean hitSplitAces = false;
+  private int[] seats = new int[0];
+
+  // Shoe at the start of the round
+  private boolean seeded = false;
+  private long shoeSeed = 0;
+  private int dealt = 0;
+  private byte[] order = new byte[0];
+
+  private byte[] actions = new byte[32];
+  private int actionCount = 0;
+  private long[] shuffleSeeds = new long[0];
+  private int shuffleCount = 0;
+
+  // ─────────────── Recording ───────────────
+
+  /** Starts a new journal for a round that has just been set up on {@code game}. */
+  void begin(BlackjackGame game, int[] seatsInPlay, Shoe shoe) {
+    active = true;
+    deckCount = game.getNumberOfDecks();
+    penetration = shoe.getPenetration();
+    maxHands = game.getMaxHands();
+    resplitAces = game.isResplitAces();
+    hitSplitAces = game.isHitSplitAces();
+    seats = seatsInPlay.clone();
+
+    OptionalLong seed = shoe.getSeed();
+    seeded = seed.isPresent();
+    if (seeded) {
+      shoeSeed = seed.getAsLong();
+      dealt = shoe.dealt();
+      order = new byte[0];
+    } else {
+      order = shoe.undealtOrder();
+    }
+
+    actionCount = 0;
+    shuffleCount = 0;
+  }
+
+  void record(Action action) {
+    record(action, 0);
+  }
+
+  void record(Action action, int operand) {
+    if (!active) return;
+    if (actionCount == actions.length) {
+      actions = Arrays.copyOf(actions, actions.length * 2);
+    }
+    actions[actionCount++] = (byte) (action.ordinal() << OPERAND_BITS | operand);
+  }
+
+  /** Notes that the shoe ran out mid-round and was refilled and shuffled from {@code seed}. */
+  void recordShuffle(long seed) {
+    if (!active) return;
+    if (shuffleCount == shuffleSeeds.length) {
+      shuffleSeeds = Arrays.copyOf(shuffleSeeds, Math.max(2, shuffleSeeds.length * 2));
+    }
+    shuffleSeeds[shuffleCount++] = seed;
+  }
+
+  /** Ends the round; the journal is empty until the next one begins. */
+  void clear() {
+    active = false;
+    actionCount = 0;
+    shuffleCount = 0;
+  }
+
+  // ─────────────── Replay ───────────────
+
+  /** Deals the round again on a new table and returns it, in the state the round reached. */
+  public BlackjackGame replay() {
+    BlackjackGame game = new BlackjackGame();
+    game.replay(this);
+    return game;
+  }
+
+  /** Loads the shoe as it was when the round started. */
+  void restoreShoe(Shoe shoe) {
+    shoe.setPenetration(penetration);
+    if (seeded) {
+      shoe.fill(deckCount);
+      shoe.shuffle(shoeSeed);
+      for (int i = 0; i < dealt; i++) {
+        shoe.drawId();
+      }
+    } else {
+      shoe.restore(deckCount, deckCount * Shoe.CARDS_PER_DECK, order, OptionalLong.empty());
+    }
+  }
+
+  /** Repeats every recorded action on {@code game}, which must be set up from this journal. */
+  void applyActions(BlackjackGame game) {
+    for (int i = 0; i < actionCount; i++) {
+      int operand = operandAt(i);
+      switch (actionAt(i)) {
+        case DEAL -> game.dealToSeat(operand);
+        case DEAL_DEALER -> game.dealToDealer();
+        case HIT -> game.hitPlayer();
+        case STAND -> game.stand();
+        case DOUBLE -> game.doubleDown();
+        case SPLIT -> game.splitPairs();
+        case DEALER_HIT -> game.hitDealer(operand == 1);
+        case PHASE -> game.setPhase(BlackjackGame.GamePhase.values()[operand]);
+        case DEALER_TURN -> game.playDealerTurn(operand == 1);
+      }
+    }
+  }
+
+  long[] getShuffleSeeds() {
+    return Arrays.copyOf(shuffleSeeds, shuffleCount);
+  }
+
+  // ─────────────── Accessors ───────────────
+
+  /** True between the start of a round and the table being reset. */
+  public boolean isActive() {
+    return active;
+  }
+
+  /** Number of recorded actions. */
+  public int size() {
+    return actionCount;
+  }
+
+  public Action actionAt(int index) {
+    return Action.VALUES[(actions[checkIndex(index)] & 0xFF) >> OPERAND_BITS];
+  }
+
+  public int operandAt(int index) {
+    return actions[checkIndex(index)] & OPERAND_MASK;
+  }
+
+  private int checkIndex(int index) {
+    if (index < 0 || index >= actionCount) {
+      throw new IndexOutOfBoundsException("Action " + index + " out of " + actionCount);
+    }
+    return index;
+  }
+
+  public int getDeckCount() {
+    return deckCount;
+  }
+
+  public double getPenetration() {
+    return penetration;
+  }
+
+  public int getMaxHands() {
+    return maxHands;
+  }
+
+  public boolean isResplitAces() {
+    return resplitAces;
+  }
+
+  public boolean isHitSplitAces() {
+    return hitSplitAces;
+  }
+
+  /** Seats dealt into the round, in playing order. */
+  public int[] getSeats() {
+    return seats.clone();
+  }
+
+  /** An independent copy, e.g. to keep with an audit record after the table moves on. */
+  public RoundJournal copy() {
+    RoundJournal copy = new RoundJournal();
+    copy.active = active;
+    copy.deckCount = deckCount;
+    copy.penetration = penetration;
+    copy.maxHands = maxHands;
+    copy.resplitAces = resplitAces;
+    copy.hitSplitAces = hitSplitAces;
+    copy.seats = seats.clone();
+    copy.seeded = seeded;
+    copy.shoeSeed = shoeSeed;
+    copy.dealt = dealt;
+    copy.order = order.clone();
+    copy.actions = Arrays.copyOf(actions, Math.max(1, actionCount));
+    copy.actionCount = actionCount;
+    copy.shuffleSeeds = getShuffleSeeds();
+    copy.shuffleCount = shuffleCount;
+    return copy;
+  }
+
+  // ─────────────── Serialization ───────────────
+
+  public void write(StateOutput output) {
+    output.putInt("decks", deckCount);
+    output.putDouble("penetration", penetration);
+    output.putInt("maxHands", maxHands);
+    output.putBoolean("resplitAces", resplitAces);
+    output.putBoolean("hitSplitAces", hitSplitAces);
+    output.putIntArray("seats", seats);
+    if (seeded) {
+      output.putLong("seed", shoeSeed);
+      output.putInt("dealt", dealt);
+    } else {
+      output.putByteArray("order", order, 0, order.length);
+    }
+    output.putByteArray("actions", actions, 0, actionCount);
+    StateOutput.ChildList shuffles = output.childrenList("shuffles");
+    for (int i = 0; i < shuffleCount; i++) {
+      shuffles.addChild().putLong("seed", shuffleSeeds[i]);
+    }
+  }
+
+  /**
+   * Reads a journal written by {@link #write(StateOutput)}.
+   *
+   * @throws IllegalArgumentException if the saved journal is malformed
+   */
+  public static RoundJournal read(StateInput input) {
+    RoundJournal journal = new RoundJournal();
+    journal.active = true;
+    journal.deckCount = input.getIntOr("decks", 0);
+    if (journal.deckCount < 1 || journal.deckCount > Shoe.MAX_DECKS) {
+      throw new IllegalArgumentException("Invalid deck count: " + journal.deckCount);
+    }
+    // Journals written before the compact format kept the penetration as text
+    Optional<String> legacyPenetration = input.getString("penetration");
+    try {
+      journal.penetration =
+          legacyPenetration.isPresent()
+              ? Double.parseDouble(legacyPenetration.get())
+              : input.getDoubleOr("penetration", Shoe.DEFAULT_PENETRATION);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid penetration", e);
+    }
+    journal.maxHands = input.getIntOr("maxHands", Seat.MAX_HANDS);
+    journal.resplitAces = input.getBooleanOr("resplitAces", false);
+    journal.hitSplitAces = input.getBooleanOr("hitSplitAces", false);
+    journal.seats = input.getIntArray("seats").orElse(new int[0]);
+    for (int seat : journal.seats) {
+      if (seat < 0 || seat >= BlackjackGame.MAX_SEATS) {
+        throw new IllegalArgumentException("Invalid seat: " + seat);
+      }
+    }
+
+    OptionalLong seed = input.getLong("seed");
+    journal.seeded = seed.isPresent();
+    if (journal.seeded) {
+      journal.shoeSeed = seed.getAsLong();
+      journal.dealt = input.getIntOr("dealt", 0);
+      if (journal.dealt < 0 || journal.dealt > journal.deckCount * Shoe.CARDS_PER_DECK) {
+        throw new IllegalArgumentException("Invalid dealt count: " + journal.dealt);
+      }
+    } else {
+      journal.order = input.getByteArray("order").orElse(new byte[0]);
+    }
+
+    journal.actions = input.getByteArray("actions").orElse(new byte[0]);
+    journal.actionCount = journal.actions.length;
+    for (int i = 0; i < journal.actionCount; i++) {
+      int action = (journal.actions[i] & 0xFF) >> OPERAND_BITS;
+      int operand = journal.actions[i] & OPERAND_MASK;
+      boolean valid = action >= 0 && action < Action.VALUES.length;
+      if (valid && Action.VALUES[action] == Action.DEAL) {
+        valid = operand < BlackjackGame.MAX_SEATS;
+      } else if (valid && Action.VALUES[action] == Action.PHASE) {
+        valid = operand < BlackjackGame.GamePhase.values().length;
+      }
+      if (!valid) {
+        throw new IllegalArgumentException("Invalid action code: " + journal.actions[i]);
+      }
+    }
+    if (journal.actions.length == 0) {
+      journal.actions = new byte[32];
+    }
+
+    input
+        .childrenList("shuffles")
+        .ifPresent(
+            list ->
+                list.forEach(child -> journal.recordShuffle(child.getLong("seed").orElse(0))));
+    return journal;
+  }
+}
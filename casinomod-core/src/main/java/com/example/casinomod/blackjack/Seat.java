@@ -0,0 +1,221 @@
+package com.example.casinomod.blackjack;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * One player's place at a {@link BlackjackGame} table: their hands, which of them is being played,
+ * and whether they doubled down or split this round. The dealer's hand and the shoe belong to the
+ * game and are shared by every seat.
+ *
+ * <p>A seat with no hands is sitting out the current round. Seats are owned and mutated by their
+ * game; callers get read-only views of the hands.
+ *
+ * <p>Hands live in an array of {@link #MAX_HANDS} preallocated {@link HandState}s that is reused
+ * from round to round, so dealing and splitting never allocate. Each hand also carries its wager in
+ * base bets: one when dealt or split off, two once doubled.
+ */
+public final class Seat {
+  /** Most hands a seat can hold, and so the furthest a pair can be re-split. */
+  public static final int MAX_HANDS = 4;
+
+  private final int index;
+  private final HandState[] handArray = new HandState[MAX_HANDS];
+  private final int[] handBets = new int[MAX_HANDS];
+  private int handCount = 0;
+  final List<HandState> hands = new Hands();
+  private final List<List<Card>> handViews = new HandViews();
+  boolean doubledDown = false;
+  boolean hasSplit = false;
+  boolean splitAces = false;
+  int currentHandIndex = 0;
+
+  Seat(int index) {
+    this.index = index;
+    for (int i = 0; i < MAX_HANDS; i++) {
+      handArray[i] = new HandState();
+    }
+  }
+
+  /** Clears the seat and, when {@code playing}, gives it one empty hand for the coming round. */
+  void reset(boolean playing) {
+    clearHands();
+    if (playing) {
+      addHand();
+    }
+    doubledDown = false;
+    hasSplit = false;
+    splitAces = false;
+    currentHandIndex = 0;
+  }
+
+  /** Drops every hand; their instances stay in the array for the next round. */
+  void clearHands() {
+    handCount = 0;
+  }
+
+  /** Appends the next pooled hand, emptied, with a one-bet wager. */
+  HandState addHand() {
+    if (handCount == MAX_HANDS) {
+      throw new IllegalStateException("Seat " + index + " already has " + MAX_HANDS + " hands");
+    }
+    HandState hand = handArray[handCount];
+    hand.clear();
+    handBets[handCount++] = 1;
+    return hand;
+  }
+
+  /**
+   * Moves the second card of hand {@code handIndex} into a new hand directly after it, shifting
+   * any later hands along. The new hand takes a one-bet wager.
+   */
+  void split(int handIndex) {
+    HandState spare = addHand();
+    int moved = handCount - handIndex - 2;
+    System.arraycopy(handArray, handIndex + 1, handArray, handIndex + 2, moved);
+    System.arraycopy(handBets, handIndex + 1, handBets, handIndex + 2, moved);
+    handArray[handIndex + 1] = spare;
+    handBets[handIndex + 1] = 1;
+    spare.add(handArray[handIndex].remove(1));
+  }
+
+  /** Doubles the wager on the hand being played. */
+  void doubleCurrentBet() {
+    handBets[currentHandIndex] *= 2;
+    doubledDown = true;
+  }
+
+  void setHandWager(int handIndex, int bets) {
+    handBets[checkIndex(handIndex, handCount)] = Math.max(1, bets);
+  }
+
+  HandState currentHand() {
+    if (handCount == 0 || currentHandIndex >= handCount) {
+      return null;
+    }
+    return handArray[currentHandIndex];
+  }
+
+  /** True once every hand has been played, i.e. the current hand is the last one. */
+  boolean isOnLastHand() {
+    return !hasSplit || currentHandIndex >= handCount - 1;
+  }
+
+  /** True while at least one hand has not busted, so the dealer still has to play against it. */
+  boolean isLive() {
+    for (int i = 0; i < handCount; i++) {
+      if (!handArray[i].isBusted()) return true;
+    }
+    return false;
+  }
+
+  // ─────────────── Accessors ───────────────
+
+  public int getIndex() {
+    return index;
+  }
+
+  /** True when the seat was dealt into the current round. */
+  public boolean isPlaying() {
+    return handCount > 0;
+  }
+
+  public int getHandCount() {
+    return handCount;
+  }
+
+  /** Read-only view of the hand at {@code handIndex}, or an empty list if there is none. */
+  public List<Card> getHand(int handIndex) {
+    if (handIndex < 0 || handIndex >= handCount) {
+      return List.of();
+    }
+    return handArray[handIndex].view();
+  }
+
+  /** Read-only view of the hand being played, or of the first hand once the seat is done. */
+  public List<Card> getCurrentHand() {
+    HandState hand = currentHand();
+    if (hand == null) {
+      return handCount == 0 ? List.of() : handArray[0].view();
+    }
+    return hand.view();
+  }
+
+  /** Read-only view of every hand; always the same instance. */
+  public List<List<Card>> getHands() {
+    return handViews;
+  }
+
+  /** Wager on the hand at {@code handIndex} in base bets, or 0 if there is no such hand. */
+  public int getHandWager(int handIndex) {
+    return handIndex >= 0 && handIndex < handCount ? handBets[handIndex] : 0;
+  }
+
+  /** Total wager across every hand, in base bets. */
+  public int getTotalWager() {
+    int total = 0;
+    for (int i = 0; i < handCount; i++) {
+      total += handBets[i];
+    }
+    return total;
+  }
+
+  public int getCurrentHandIndex() {
+    return currentHandIndex;
+  }
+
+  public boolean hasSplit() {
+    return hasSplit;
+  }
+
+  /** True when the seat split a pair of aces this round. */
+  public boolean hasSplitAces() {
+    return splitAces;
+  }
+
+  /** True when any of the seat's hands was doubled. */
+  public boolean hasDoubledDown() {
+    return doubledDown;
+  }
+
+  /** True for an unsplit two-card 21, which pays 3:2. */
+  public boolean isBlackjack() {
+    return !hasSplit && handCount == 1 && handArray[0].isBlackjack();
+  }
+
+  /**
+   * The seat's hands as a read-only list backed by the fixed array. Hands only come from {@link
+   * #addHand} and {@link #split}, so the array never holds anything but its own pooled instances.
+   */
+  private final class Hands extends AbstractList<HandState> implements RandomAccess {
+    @Override
+    public HandState get(int i) {
+      return handArray[checkIndex(i, handCount)];
+    }
+
+    @Override
+    public int size() {
+      return handCount;
+    }
+  }
+
+  private static int checkIndex(int i, int size) {
+    if (i < 0 || i >= size) {
+      throw new IndexOutOfBoundsException("Hand " + i + " out of " + size);
+    }
+    return i;
+  }
+
+  private final class HandViews extends AbstractList<List<Card>> implements RandomAccess {
+    @Override
+    public List<Card> get(int index) {
+      return handArray[checkIndex(index, handCount)].view();
+    }
+
+    @Override
+    public int size() {
+      return handCount;
+    }
+  }
+}
@@ -0,0 +1,335 @@
+package com.example.casinomod.blackjack;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fixed-capacity card shoe backed by a single array of card IDs (see {@link Card#ordinal()}) and a
+ * draw cursor. Drawing, peeking and remaining-card queries are O(1); refilling and shuffling reuse
+ * the same backing array and never allocate cards.
+ *
+ * <p>Shoes shuffled from a seed remember it, so a reported shoe can be rebuilt exactly with {@link
+ * #fill(int)} followed by {@link #shuffle(long)}.
+ *
+ * <p>Remaining cards per rank and the Hi-Lo running count are kept up to date as each card is
+ * drawn, so {@link #composition()}, {@link #remainingOfRank(int)} and {@link #getTrueCount()} never
+ * rescan the undealt cards.
+ *
+ * <p>The shoe persists across rounds. A cut card is placed at the configured penetration when the
+ * shoe is filled, and {@link #isPastCutCard()} tells the game when to reshuffle between rounds.
+ */
+public class Shoe {
+  public static final int CARDS_PER_DECK = 52;
+  public static final int MAX_DECKS = 8;
+  public static final int CAPACITY = CARDS_PER_DECK * MAX_DECKS;
+  public static final double DEFAULT_PENETRATION = 0.75;
+  public static final double MIN_PENETRATION = 0.25;
+  public static final double MAX_PENETRATION = 0.95;
+
+  private final byte[] cards = new byte[CAPACITY];
+  private int size = 0;
+  private int cursor = 0;
+  private int deckCount = 0;
+  private double penetration = DEFAULT_PENETRATION;
+  private int cutCard = 0;
+  private long seed = 0;
+  private boolean seeded = false;
+
+  // Undealt cards by rank (index 1-13) and the Hi-Lo count of the cards dealt since the last fill
+  private final int[] rankCounts = new int[14];
+  private int runningCount = 0;
+
+  private static final byte[] RANK = new byte[Card.COUNT];
+  private static final byte[] HI_LO = new byte[Card.COUNT];
+
+  static {
+    for (int id = 0; id < Card.COUNT; id++) {
+      int rank = Card.byId(id).getValue();
+      RANK[id] = (byte) rank;
+      // Low cards leaving the shoe favour the player, tens and aces leaving it favour the house
+      HI_LO[id] = (byte) (rank >= 2 && rank <= 6 ? 1 : rank == 1 || rank >= 10 ? -1 : 0);
+    }
+  }
+
+  // ─────────────── Filling ───────────────
+
+  /** Loads {@code deckCount} ordered decks (clamped to 1-8) and rewinds the cursor. */
+  public void fill(int deckCount) {
+    this.deckCount = Math.max(1, Math.min(MAX_DECKS, deckCount));
+    int index = 0;
+    for (int deckNum = 0; deckNum < this.deckCount; deckNum++) {
+      for (int id = 0; id < Card.COUNT; id++) {
+        cards[index++] = (byte) id;
+      }
+    }
+    size = index;
+    cursor = 0;
+    seeded = false;
+    resetCounts();
+    placeCutCard();
+  }
+
+  /**
+   * Loads an already shuffled card order, such as one produced by {@link ShoePool}. The order is
+   * copied, so the caller may reuse the array.
+   */
+  public void load(int deckCount, byte[] order, long seed) {
+    if (deckCount < 1 || deckCount > MAX_DECKS || order.length != deckCount * CARDS_PER_DECK) {
+      throw new IllegalArgumentException(
+          "Invalid shoe order: " + order.length + " cards for " + deckCount + " deck(s)");
+    }
+    this.deckCount = deckCount;
+    System.arraycopy(order, 0, cards, 0, order.length);
+    size = order.length;
+    cursor = 0;
+    this.seed = seed;
+    this.seeded = true;
+    resetCounts();
+    placeCutCard();
+  }
+
+  /**
+   * Restores a persisted shoe: {@code undealt} are the remaining card IDs in draw order and {@code
+   * size} is the total number of cards the shoe was filled with.
+   *
+   * @throws IllegalArgumentException if the data does not describe a valid shoe
+   */
+  public void restore(int deckCount, int size, int[] undealt) {
+    restore(deckCount, size, undealt, OptionalLong.empty());
+  }
+
+  /** As {@link #restore(int, int, int[])}, also restoring the seed the shoe was shuffled from. */
+  public void restore(int deckCount, int size, int[] undealt, OptionalLong seed) {
+    byte[] order = new byte[undealt.length];
+    for (int i = 0; i < undealt.length; i++) {
+      if (undealt[i] < 0 || undealt[i] >= Card.COUNT) {
+        throw new IllegalArgumentException("Invalid card id in shoe: " + undealt[i]);
+      }
+      order[i] = (byte) undealt[i];
+    }
+    restore(deckCount, size, order, seed);
+  }
+
+  /** As {@link #restore(int, int, int[], OptionalLong)}, with the card IDs packed one per byte. */
+  public void restore(int deckCount, int size, byte[] undealt, OptionalLong seed) {
+    if (deckCount < 1 || deckCount > MAX_DECKS) {
+      throw new IllegalArgumentException("Invalid deck count: " + deckCount);
+    }
+    if (size != deckCount * CARDS_PER_DECK || undealt.length > size) {
+      throw new IllegalArgumentException(
+          "Invalid shoe size: " + size + " with " + undealt.length + " undealt cards");
+    }
+    for (byte id : undealt) {
+      if (id < 0 || id >= Card.COUNT) {
+        throw new IllegalArgumentException("Invalid card id in shoe: " + id);
+      }
+    }
+
+    this.deckCount = deckCount;
+    this.size = size;
+    this.cursor = size - undealt.length;
+    System.arraycopy(undealt, 0, cards, cursor, undealt.length);
+    this.seeded = seed.isPresent();
+    this.seed = seed.orElse(0);
+    recount();
+    placeCutCard();
+  }
+
+  /** Counts for a full, undealt shoe of {@link #deckCount} decks. */
+  private void resetCounts() {
+    Arrays.fill(rankCounts, 1, rankCounts.length, deckCount * 4);
+    runningCount = 0;
+  }
+
+  /**
+   * Rebuilds the counts from the undealt cards. A full shoe's Hi-Lo tags sum to zero, so the cards
+   * dealt so far count the negation of what is left.
+   */
+  private void recount() {
+    Arrays.fill(rankCounts, 0);
+    int undealtCount = 0;
+    for (int i = cursor; i < size; i++) {
+      rankCounts[RANK[cards[i]]]++;
+      undealtCount += HI_LO[cards[i]];
+    }
+    runningCount = -undealtCount;
+  }
+
+  private void placeCutCard() {
+    cutCard = (int) Math.round(size * penetration);
+  }
+
+  /** Fisher-Yates shuffle of the undealt portion of the shoe, in place. */
+  public void shuffle(RandomGenerator random) {
+    shuffle(cards, cursor, size, random);
+    seeded = false;
+  }
+
+  /** Shuffles the undealt cards from {@code seed} and records it for later reproduction. */
+  public void shuffle(long seed) {
+    shuffle(cards, cursor, size, new SplittableRandom(seed));
+    this.seed = seed;
+    this.seeded = true;
+  }
+
+  /** Shuffles {@code order[from, to)} in place; shared with {@link ShoePool} so seeds agree. */
+  static void shuffle(byte[] order, int from, int to, RandomGenerator random) {
+    for (int i = to - 1; i > from; i--) {
+      int j = from + random.nextInt(i - from + 1);
+      byte tmp = order[i];
+      order[i] = order[j];
+      order[j] = tmp;
+    }
+  }
+
+  /** Empties the shoe without releasing its backing array. */
+  public void clear() {
+    size = 0;
+    cursor = 0;
+    cutCard = 0;
+    Arrays.fill(rankCounts, 0);
+    runningCount = 0;
+  }
+
+  // ─────────────── Continuous Shuffling ───────────────
+
+  /**
+   * Returns a dealt card to a uniformly random position among the undealt cards, as a continuous
+   * shuffling machine does. O(1): the card takes the slot just behind the cursor, then swaps with a
+   * random undealt card. The order no longer follows from a seed afterwards.
+   *
+   * @return false if there is no dealt slot left to return the card to
+   */
+  public boolean reinsert(int id, RandomGenerator random) {
+    if (id < 0 || id >= Card.COUNT) {
+      throw new IllegalArgumentException("Invalid card id: " + id);
+    }
+    if (cursor == 0) {
+      return false;
+    }
+    cursor--;
+    int j = cursor + random.nextInt(size - cursor);
+    cards[cursor] = cards[j];
+    cards[j] = (byte) id;
+    rankCounts[RANK[id]]++;
+    runningCount -= HI_LO[id];
+    seeded = false;
+    return true;
+  }
+
+  // ─────────────── Penetration ───────────────
+
+  /**
+   * Sets the fraction of the shoe dealt before the cut card, clamped to 0.25-0.95. Moves the cut
+   * card of the current shoe as well.
+   */
+  public void setPenetration(double penetration) {
+    this.penetration = Math.max(MIN_PENETRATION, Math.min(MAX_PENETRATION, penetration));
+    placeCutCard();
+  }
+
+  public double getPenetration() {
+    return penetration;
+  }
+
+  /** True once the cut card has been dealt past, or the shoe was never filled. */
+  public boolean isPastCutCard() {
+    return cursor >= cutCard;
+  }
+
+  // ─────────────── Drawing ───────────────
+
+  public Card draw() {
+    return Card.byId(drawId());
+  }
+
+  /** Draws the next card and returns its compact ID. */
+  public int drawId() {
+    if (cursor >= size) {
+      throw new IllegalStateException("Cannot draw from an empty shoe");
+    }
+    int id = cards[cursor++];
+    rankCounts[RANK[id]]--;
+    runningCount += HI_LO[id];
+    return id;
+  }
+
+  /** Returns the next card without removing it, or {@code null} if the shoe is empty. */
+  public Card peek() {
+    return cursor < size ? Card.byId(cards[cursor]) : null;
+  }
+
+  // ─────────────── Accessors ───────────────
+
+  public int remaining() {
+    return size - cursor;
+  }
+
+  public boolean isEmpty() {
+    return cursor >= size;
+  }
+
+  /** Total number of cards loaded by the last {@link #fill(int)}, dealt or not. */
+  public int size() {
+    return size;
+  }
+
+  public int getDeckCount() {
+    return deckCount;
+  }
+
+  /** Seed of the last shuffle, if the current order came from a seeded shuffle. */
+  public OptionalLong getSeed() {
+    return seeded ? OptionalLong.of(seed) : OptionalLong.empty();
+  }
+
+  /** Number of cards dealt since the last fill. */
+  public int dealt() {
+    return cursor;
+  }
+
+  /** Copies the undealt card IDs in draw order, for persistence. */
+  public int[] undealtIds() {
+    int[] ids = new int[size - cursor];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = cards[cursor + i];
+    }
+    return ids;
+  }
+
+  /** Copies the undealt card IDs in draw order, one byte each, for compact persistence. */
+  public byte[] undealtOrder() {
+    return Arrays.copyOfRange(cards, cursor, size);
+  }
+
+  /** Counts the undealt cards by blackjack value: index 1 is aces, 10 is all ten-valued cards. */
+  public int[] composition() {
+    int[] counts = new int[11];
+    System.arraycopy(rankCounts, 1, counts, 1, 9);
+    counts[10] = rankCounts[10] + rankCounts[11] + rankCounts[12] + rankCounts[13];
+    return counts;
+  }
+
+  // ─────────────── Counting ───────────────
+
+  /** Undealt cards of {@code rank}, from 1 (ace) to 13 (king). */
+  public int remainingOfRank(int rank) {
+    if (rank < 1 || rank > 13) {
+      throw new IllegalArgumentException("Invalid rank: " + rank);
+    }
+    return rankCounts[rank];
+  }
+
+  /** Hi-Lo running count of the cards dealt since the shoe was filled. */
+  public int getRunningCount() {
+    return runningCount;
+  }
+
+  /** Running count per deck left in the shoe, or 0 once the shoe is empty. */
+  public double getTrueCount() {
+    int remaining = size - cursor;
+    return remaining == 0 ? 0.0 : runningCount * (double) CARDS_PER_DECK / remaining;
+  }
+}
@@ -0,0 +1,193 @@
+package com.example.casinomod.blackjack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import com.example.casinomod.core.CasinoCore;
+
+/**
+ * Keeps a few ready-shuffled shoes per deck count (1-8), produced on a background executor, so
+ * starting a new shoe on the server thread is a single array copy. When the pool for a deck count
+ * is empty the caller shuffles synchronously and the miss is counted.
+ */
+public class ShoePool {
+  public static final int DEFAULT_DEPTH = 2;
+
+  private static volatile ShoePool active;
+
+  private final int depth;
+  private final Executor executor;
+  @Nullable private final ExecutorService ownedExecutor;
+  // Indexed by deck count - 1
+  private final List<Queue<Prepared>> ready;
+  private final List<Queue<byte[]>> spare;
+  private final AtomicInteger[] inFlight;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  /** Creates a pool backed by its own daemon shuffling thread. */
+  public ShoePool(int depth) {
+    this(depth, newShufflerThread(), true);
+  }
+
+  /** Creates a pool that produces shoes on the given executor, which the caller keeps owning. */
+  public ShoePool(int depth, Executor executor) {
+    this(depth, executor, false);
+  }
+
+  private ShoePool(int depth, Executor executor, boolean ownsExecutor) {
+    this.depth = Math.max(1, depth);
+    this.executor = executor;
+    this.ownedExecutor = ownsExecutor ? (ExecutorService) executor : null;
+    this.ready = ShoePool.<Prepared>newQueues();
+    this.spare = ShoePool.<byte[]>newQueues();
+    this.inFlight = new AtomicInteger[Shoe.MAX_DECKS];
+    for (int i = 0; i < Shoe.MAX_DECKS; i++) {
+      inFlight[i] = new AtomicInteger();
+    }
+  }
+
+  private static ExecutorService newShufflerThread() {
+    return Executors.newSingleThreadExecutor(
+        runnable -> {
+          Thread thread = new Thread(runnable, "CasinoMod Shoe Shuffler");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  private static <T> List<Queue<T>> newQueues() {
+    List<Queue<T>> queues = new ArrayList<>(Shoe.MAX_DECKS);
+    for (int i = 0; i < Shoe.MAX_DECKS; i++) {
+      queues.add(new ConcurrentLinkedQueue<>());
+    }
+    return List.copyOf(queues);
+  }
+
+  // ─────────────── Lifecycle ───────────────
+
+  /** Starts the shared pool used by every table on this server and queues the initial shoes. */
+  public static void start() {
+    stop();
+    ShoePool pool = new ShoePool(DEFAULT_DEPTH);
+    pool.prefill();
+    active = pool;
+    CasinoCore.LOGGER.debug("[ShoePool] Started with {} shoe(s) per deck count", DEFAULT_DEPTH);
+  }
+
+  /** Stops the shared pool; tables fall back to shuffling on the server thread. */
+  public static void stop() {
+    ShoePool pool = active;
+    active = null;
+    if (pool != null) {
+      pool.shutdown();
+      CasinoCore.LOGGER.debug(
+          "[ShoePool] Stopped after {} hit(s) and {} miss(es)", pool.getHits(), pool.getMisses());
+    }
+  }
+
+  /** The shared pool, or {@code null} when no server is running. */
+  @Nullable
+  public static ShoePool active() {
+    return active;
+  }
+
+  /** Queues production of shoes until every deck count holds {@code depth} ready shoes. */
+  public void prefill() {
+    for (int deckCount = 1; deckCount <= Shoe.MAX_DECKS; deckCount++) {
+      for (int i = 0; i < depth; i++) {
+        replenish(deckCount);
+      }
+    }
+  }
+
+  public void shutdown() {
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdownNow();
+    }
+  }
+
+  // ─────────────── Taking Shoes ───────────────
+
+  /**
+   * Loads a pre-shuffled shoe of {@code deckCount} decks into {@code target}.
+   *
+   * @return true on a pool hit; false if none was ready and the caller must shuffle itself
+   */
+  public boolean take(int deckCount, Shoe target) {
+    int decks = Math.max(1, Math.min(Shoe.MAX_DECKS, deckCount));
+    Prepared prepared = ready.get(decks - 1).poll();
+    if (prepared == null) {
+      misses.incrementAndGet();
+      replenish(decks);
+      return false;
+    }
+
+    target.load(decks, prepared.order(), prepared.seed());
+    spare.get(decks - 1).offer(prepared.order());
+    hits.incrementAndGet();
+    replenish(decks);
+    return true;
+  }
+
+  private void replenish(int deckCount) {
+    int index = deckCount - 1;
+    if (inFlight[index].incrementAndGet() + ready.get(index).size() > depth) {
+      inFlight[index].decrementAndGet();
+      return;
+    }
+
+    try {
+      executor.execute(
+          () -> {
+            try {
+              ready.get(index).offer(shuffled(deckCount, spare.get(index).poll()));
+            } finally {
+              inFlight[index].decrementAndGet();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      inFlight[index].decrementAndGet();
+    }
+  }
+
+  /** Same layout and algorithm as {@link Shoe#fill(int)} + {@link Shoe#shuffle(long)}. */
+  private static Prepared shuffled(int deckCount, @Nullable byte[] reuse) {
+    byte[] order = reuse != null ? reuse : new byte[deckCount * Shoe.CARDS_PER_DECK];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = (byte) (i % Card.COUNT);
+    }
+    long seed = ThreadLocalRandom.current().nextLong();
+    Shoe.shuffle(order, 0, order.length, new SplittableRandom(seed));
+    return new Prepared(seed, order);
+  }
+
+  private record Prepared(long seed, byte[] order) {}
+
+  // ─────────────── Statistics ───────────────
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /** Number of shoes currently ready for {@code deckCount} decks. */
+  public int readyCount(int deckCount) {
+    return ready.get(Math.max(1, Math.min(Shoe.MAX_DECKS, deckCount)) - 1).size();
+  }
+}
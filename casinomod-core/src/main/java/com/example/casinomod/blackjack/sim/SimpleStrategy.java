@@ -0,0 +1,41 @@
+package com.example.casinomod.blackjack.sim;
+
+import com.example.casinomod.blackjack.Card;
+import com.example.casinomod.blackjack.HandState;
+import com.example.casinomod.blackjack.PlayerAction;
+
+/**
+ * A handful of rules that play close to basic strategy: split aces and eights, double on 9-11
+ * against weak dealer cards, stand on stiff hands against 2-6 and hit soft hands below 18.
+ */
+final class SimpleStrategy implements Strategy {
+  static final SimpleStrategy INSTANCE = new SimpleStrategy();
+
+  private SimpleStrategy() {}
+
+  @Override
+  public PlayerAction decide(
+      HandState hand, Card dealerUpCard, boolean canDouble, boolean canSplit) {
+    int up = dealerUpCard.isAce() ? 11 : dealerUpCard.getBlackjackValue();
+    int total = hand.value();
+
+    if (canSplit) {
+      int pair = hand.get(0).getValue();
+      if (pair == 1 || pair == 8) return PlayerAction.SPLIT;
+    }
+
+    if (hand.isSoft()) {
+      if (total >= 19) return PlayerAction.STAND;
+      if (total == 18) return up <= 8 ? PlayerAction.STAND : PlayerAction.HIT;
+      return PlayerAction.HIT;
+    }
+
+    if (total >= 17) return PlayerAction.STAND;
+    if (total >= 13) return up <= 6 ? PlayerAction.STAND : PlayerAction.HIT;
+    if (total == 12) return up >= 4 && up <= 6 ? PlayerAction.STAND : PlayerAction.HIT;
+    if (total == 11) return canDouble ? PlayerAction.DOUBLE : PlayerAction.HIT;
+    if (total == 10) return canDouble && up <= 9 ? PlayerAction.DOUBLE : PlayerAction.HIT;
+    if (total == 9) return canDouble && up >= 3 && up <= 6 ? PlayerAction.DOUBLE : PlayerAction.HIT;
+    return PlayerAction.HIT;
+  }
+}
@@ -0,0 +1,103 @@
+package com.example.casinomod.blackjack.sim;
+
+/**
+ * Totals from a simulation run. Amounts are tracked in half bets so a 3:2 blackjack payout stays
+ * an integer; the public accessors convert back to units of the initial bet.
+ *
+ * <p>Each worker fills its own instance and the results are merged when the workers join.
+ */
+public final class SimulationResult {
+  /** Largest per-round win or loss kept in its own bucket, in half bets. */
+  public static final int MAX_OUTCOME = 16;
+
+  private long rounds = 0;
+  private long hands = 0;
+  private long wagered = 0; // half bets
+  private long net = 0; // half bets, positive when the player is ahead
+  private long netSquared = 0;
+  private final long[] outcomes = new long[2 * MAX_OUTCOME + 1];
+
+  /** Records one round: hands played, total stake and the player's win, in half bets. */
+  void record(int hands, int wagered, int net) {
+    this.rounds++;
+    this.hands += hands;
+    this.wagered += wagered;
+    this.net += net;
+    this.netSquared += (long) net * net;
+    outcomes[Math.max(-MAX_OUTCOME, Math.min(MAX_OUTCOME, net)) + MAX_OUTCOME]++;
+  }
+
+  /** Adds {@code other} into this result and returns this. */
+  SimulationResult merge(SimulationResult other) {
+    rounds += other.rounds;
+    hands += other.hands;
+    wagered += other.wagered;
+    net += other.net;
+    netSquared += other.netSquared;
+    for (int i = 0; i < outcomes.length; i++) {
+      outcomes[i] += other.outcomes[i];
+    }
+    return this;
+  }
+
+  // ─────────────── Totals ───────────────
+
+  /** Rounds dealt, each started with one initial bet. */
+  public long getRounds() {
+    return rounds;
+  }
+
+  /** Hands played, counting each split hand separately. */
+  public long getHands() {
+    return hands;
+  }
+
+  /** Total staked including doubles and splits, in initial bets. */
+  public double getTotalWagered() {
+    return wagered / 2.0;
+  }
+
+  /** Player's total win (negative for a loss), in initial bets. */
+  public double getNet() {
+    return net / 2.0;
+  }
+
+  // ─────────────── Statistics ───────────────
+
+  /** House edge as a fraction of the initial bet; 0.005 means the house keeps 0.5%. */
+  public double getHouseEdge() {
+    return rounds == 0 ? 0 : -getNet() / rounds;
+  }
+
+  /** Variance of a round's result, in squared initial bets. */
+  public double getVariance() {
+    if (rounds == 0) return 0;
+    double mean = getNet() / rounds;
+    return netSquared / 4.0 / rounds - mean * mean;
+  }
+
+  public double getStandardDeviation() {
+    return Math.sqrt(getVariance());
+  }
+
+  /** Standard error of {@link #getHouseEdge()}. */
+  public double getStandardError() {
+    return rounds == 0 ? 0 : getStandardDeviation() / Math.sqrt(rounds);
+  }
+
+  // ─────────────── Payout Distribution ───────────────
+
+  /**
+   * Number of rounds that ended with the player winning {@code halfBets} / 2 initial bets (negative
+   * for losses). Results beyond {@link #MAX_OUTCOME} are counted in the outermost buckets.
+   */
+  public long getOutcomeCount(int halfBets) {
+    if (halfBets < -MAX_OUTCOME || halfBets > MAX_OUTCOME) return 0;
+    return outcomes[halfBets + MAX_OUTCOME];
+  }
+
+  /** Fraction of rounds that ended with the given result; see {@link #getOutcomeCount(int)}. */
+  public double getOutcomeFrequency(int halfBets) {
+    return rounds == 0 ? 0 : (double) getOutcomeCount(halfBets) / rounds;
+  }
+}
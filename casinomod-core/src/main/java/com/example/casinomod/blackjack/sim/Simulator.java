@@ -0,0 +1,157 @@
+package com.example.casinomod.blackjack.sim;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.example.casinomod.blackjack.BlackjackGame;
+import com.example.casinomod.blackjack.BlackjackGame.GamePhase;
+import com.example.casinomod.blackjack.Card;
+import com.example.casinomod.blackjack.HandState;
+import com.example.casinomod.blackjack.PlayerAction;
+import com.example.casinomod.blackjack.Seat;
+
+/**
+ * Plays rounds headlessly through {@link BlackjackGame}, so results reflect the same dealing,
+ * dealer and result rules as a real table, and settles them the way {@code BlackjackHandler} pays
+ * out: 3:2 for an undoubled blackjack, even money otherwise.
+ *
+ * <p>Rounds are split across a {@link ForkJoinPool}. Every batch splits its own {@link
+ * SplittableRandom} stream off its parent's before forking, so a run is reproducible from its seed
+ * no matter how the work is scheduled.
+ */
+public class Simulator {
+  /** Rounds played by one task before it stops splitting. */
+  static final int ROUNDS_PER_BATCH = 20_000;
+
+  private final TableRules rules;
+  private final Strategy strategy;
+  private final ForkJoinPool pool;
+
+  public Simulator(TableRules rules, Strategy strategy) {
+    this(rules, strategy, ForkJoinPool.commonPool());
+  }
+
+  public Simulator(TableRules rules, Strategy strategy, ForkJoinPool pool) {
+    this.rules = rules;
+    this.strategy = strategy;
+    this.pool = pool;
+  }
+
+  /** Plays {@code rounds} rounds, blocking until every worker is done. */
+  public SimulationResult run(long rounds, long seed) {
+    if (rounds < 1) {
+      throw new IllegalArgumentException("Rounds must be positive: " + rounds);
+    }
+    return pool.invoke(new Batch(rounds, new SplittableRandom(seed)));
+  }
+
+  /** As {@link #run(long, long)}, without blocking the calling thread. */
+  public CompletableFuture<SimulationResult> runAsync(long rounds, long seed) {
+    return CompletableFuture.supplyAsync(() -> run(rounds, seed), pool);
+  }
+
+  // Fork/join tasks are never serialized
+  @SuppressWarnings("serial")
+  private class Batch extends RecursiveTask<SimulationResult> {
+    private final long rounds;
+    private final SplittableRandom random;
+
+    Batch(long rounds, SplittableRandom random) {
+      this.rounds = rounds;
+      this.random = random;
+    }
+
+    @Override
+    protected SimulationResult compute() {
+      if (rounds <= ROUNDS_PER_BATCH) {
+        return play(rounds, random);
+      }
+      Batch left = new Batch(rounds / 2, random.split());
+      Batch right = new Batch(rounds - rounds / 2, random);
+      left.fork();
+      SimulationResult result = right.compute();
+      return result.merge(left.join());
+    }
+  }
+
+  // ─────────────── Playing Rounds ───────────────
+
+  private SimulationResult play(long rounds, SplittableRandom random) {
+    BlackjackGame game = new BlackjackGame();
+    game.setRandom(random);
+    game.setPenetration(rules.penetration());
+
+    SimulationResult result = new SimulationResult();
+    for (long i = 0; i < rounds; i++) {
+      playRound(game, result);
+    }
+    return result;
+  }
+
+  private void playRound(BlackjackGame game, SimulationResult result) {
+    game.startGame(rules.deckCount());
+    game.dealToPlayer();
+    game.dealToDealer();
+    game.dealToPlayer();
+    game.dealToDealer();
+
+    // Same check BlackjackHandler makes once the initial cards are out
+    if (game.isDealerBlackjack()) {
+      game.setPhase(GamePhase.FINISHED);
+    }
+
+    Card upCard = game.getDealerHand().get(0);
+    while (game.getPhase() == GamePhase.PLAYER_TURN) {
+      HandState hand = game.getCurrentHand();
+      boolean canDouble = rules.doubleDownAllowed() && game.canDoubleDown();
+      boolean canSplit = rules.splitAllowed() && game.canSplit();
+
+      switch (decide(hand, upCard, canDouble, canSplit)) {
+        case HIT -> game.hitPlayer();
+        case STAND -> game.stand();
+        case DOUBLE -> game.doubleDown();
+        case SPLIT -> game.splitPairs();
+      }
+    }
+
+    // Does nothing when every hand busted and the round is already finished
+    game.playDealerTurn(rules.dealerHitsSoft17());
+
+    settle(game, result);
+    game.reset();
+  }
+
+  /** Asks the strategy, falling back to hit or stand if it picks an action that is not allowed. */
+  private PlayerAction decide(HandState hand, Card upCard, boolean canDouble, boolean canSplit) {
+    PlayerAction action = strategy.decide(hand, upCard, canDouble, canSplit);
+    if (action == PlayerAction.SPLIT && !canSplit) {
+      action = strategy.decide(hand, upCard, canDouble, false);
+      if (action == PlayerAction.SPLIT) return PlayerAction.STAND;
+    }
+    if (action == PlayerAction.DOUBLE && !canDouble) return PlayerAction.HIT;
+    return action;
+  }
+
+  private static void settle(BlackjackGame game, SimulationResult result) {
+    Seat seat = game.getSeat(0);
+    int hands = seat.getHandCount();
+    int wagered = 0;
+    int net = 0;
+    for (int i = 0; i < hands; i++) {
+      int stake = 2 * seat.getHandWager(i); // half bets
+      wagered += stake;
+      switch (game.determineResult(i)) {
+        case WIN -> net += game.isBlackjack(i) ? 3 : stake;
+        case LOSE -> net -= stake;
+        default -> {}
+      }
+    }
+    result.record(hands, wagered, net);
+  }
+
+  public TableRules getRules() {
+    return rules;
+  }
+}
@@ -0,0 +1,32 @@
+package com.example.casinomod.blackjack.sim;
+
+import com.example.casinomod.blackjack.BasicStrategy;
+import com.example.casinomod.blackjack.Card;
+import com.example.casinomod.blackjack.HandState;
+import com.example.casinomod.blackjack.PlayerAction;
+
+/**
+ * Chooses the simulated player's action. Implementations are shared between worker threads, so
+ * they must be stateless or thread-safe.
+ */
+@FunctionalInterface
+public interface Strategy {
+
+  /**
+   * @param hand the hand being played
+   * @param dealerUpCard the dealer's face-up card
+   * @param canDouble whether {@link PlayerAction#DOUBLE} is currently allowed
+   * @param canSplit whether {@link PlayerAction#SPLIT} is currently allowed
+   */
+  PlayerAction decide(HandState hand, Card dealerUpCard, boolean canDouble, boolean canSplit);
+
+  /** Full basic strategy for the given rules, backed by cached {@link BasicStrategy} tables. */
+  static Strategy basic(TableRules rules) {
+    return BasicStrategy.forRules(rules.deckCount(), rules.dealerHitsSoft17())::decide;
+  }
+
+  /** A compact approximation of basic strategy; see {@link SimpleStrategy}. */
+  static Strategy simple() {
+    return SimpleStrategy.INSTANCE;
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.casinomod.blackjack.sim;
+
+import com.example.casinomod.blackjack.Shoe;
+
+/**
+ * The table settings a simulation is run under. Mirrors the per-table settings of a dealer block,
+ * plus switches to turn double down and splitting off entirely.
+ */
+public record TableRules(
+    int deckCount,
+    boolean dealerHitsSoft17,
+    boolean doubleDownAllowed,
+    boolean splitAllowed,
+    double penetration) {
+
+  public TableRules {
+    if (deckCount < 1 || deckCount > Shoe.MAX_DECKS) {
+      throw new IllegalArgumentException("Invalid deck count: " + deckCount);
+    }
+    if (penetration < Shoe.MIN_PENETRATION || penetration > Shoe.MAX_PENETRATION) {
+      throw new IllegalArgumentException("Invalid penetration: " + penetration);
+    }
+  }
+
+  /** Rules with double down and splitting allowed and the default penetration. */
+  public static TableRules of(int deckCount, boolean dealerHitsSoft17) {
+    return new TableRules(deckCount, dealerHitsSoft17, true, true, Shoe.DEFAULT_PENETRATION);
+  }
+
+  /** Short description such as {@code "6 decks, H17, DD, split"}. */
+  public String describe() {
+    return deckCount
+        + (deckCount == 1 ? " deck, " : " decks, ")
+        + (dealerHitsSoft17 ? "H17" : "S17")
+        + (doubleDownAllowed ? ", DD" : ", no DD")
+        + (splitAllowed ? ", split" : ", no split");
+  }
+}
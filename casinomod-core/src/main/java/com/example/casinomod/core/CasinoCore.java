@@ -0,0 +1,15 @@
+package com.example.casinomod.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shared constants of the casino engine. The engine has no Minecraft dependencies, so it runs the
+ * same inside the mod and on a plain JVM for simulations, benchmarks and tests.
+ */
+public final class CasinoCore {
+  /** Engine log; in game it writes to the same "casinomod" logger as the mod. */
+  public static final Logger LOGGER = LoggerFactory.getLogger("casinomod");
+
+  private CasinoCore() {}
+}
@@ -0,0 +1,25 @@
+package com.example.casinomod.core;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/** Keyed, nested input that engine state is loaded back from; see {@link StateOutput}. */
+public interface StateInput {
+  Optional<String> getString(String key);
+
+  int getIntOr(String key, int defaultValue);
+
+  OptionalLong getLong(String key);
+
+  boolean getBooleanOr(String key, boolean defaultValue);
+
+  double getDoubleOr(String key, double defaultValue);
+
+  Optional<int[]> getIntArray(String key);
+
+  Optional<byte[]> getByteArray(String key);
+
+  Optional<StateInput> child(String key);
+
+  Optional<Iterable<StateInput>> childrenList(String key);
+}
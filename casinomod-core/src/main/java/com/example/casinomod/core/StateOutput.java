@@ -0,0 +1,33 @@
+package com.example.casinomod.core;
+
+/**
+ * Keyed, nested output that engine state is saved to. The mod backs it with Minecraft's {@code
+ * ValueOutput}; anything else, such as a test or benchmark harness, can back it with plain maps.
+ */
+public interface StateOutput {
+  void putString(String key, String value);
+
+  void putInt(String key, int value);
+
+  void putLong(String key, long value);
+
+  void putBoolean(String key, boolean value);
+
+  void putDouble(String key, double value);
+
+  void putIntArray(String key, int[] value);
+
+  /** Writes {@code length} bytes of {@code value} starting at {@code offset}. */
+  void putByteArray(String key, byte[] value, int offset, int length);
+
+  /** Returns a nested output stored under {@code key}. */
+  StateOutput child(String key);
+
+  /** Returns a list of nested outputs stored under {@code key}. */
+  ChildList childrenList(String key);
+
+  /** Ordered list of nested outputs. */
+  interface ChildList {
+    StateOutput addChild();
+  }
+}
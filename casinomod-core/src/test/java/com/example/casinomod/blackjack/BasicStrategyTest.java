@@ -0,0 +1,139 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class BasicStrategyTest {
+
+  private static HandState handOf(int... values) {
+    HandState hand = new HandState();
+    for (int value : values) {
+      hand.add(Card.of(value, Suit.SPADES));
+    }
+    return hand;
+  }
+
+  private static boolean isPair(HandState hand) {
+    return hand.size() == 2 && hand.get(0).getValue() == hand.get(1).getValue();
+  }
+
+  private static PlayerAction sixDeck(HandState hand, int up) {
+    return BasicStrategy.forRules(6, false)
+        .decide(hand, Card.of(up, Suit.HEARTS), true, isPair(hand));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "10, 6, 10, HIT", // hard 16 vs 10
+    "10, 6, 6, STAND", // hard 16 vs 6
+    "10, 2, 3, HIT", // hard 12 vs 3
+    "10, 2, 4, STAND", // hard 12 vs 4
+    "6, 5, 10, DOUBLE", // hard 11 vs 10
+    "6, 5, 1, HIT", // hard 11 vs ace, S17 shoe
+    "5, 5, 9, DOUBLE", // 5-5 plays as hard 10
+    "5, 4, 2, HIT", // hard 9 vs 2
+    "10, 7, 1, STAND", // hard 17 vs ace
+    "1, 7, 2, STAND", // soft 18 vs 2, S17
+    "1, 7, 4, DOUBLE", // soft 18 vs 4
+    "1, 7, 9, HIT", // soft 18 vs 9
+    "1, 6, 3, DOUBLE", // soft 17 vs 3
+    "1, 2, 4, HIT", // soft 13 vs 4
+    "1, 1, 10, SPLIT", // aces
+    "8, 8, 1, SPLIT", // eights
+    "10, 10, 6, STAND", // never split tens
+    "9, 9, 7, STAND", // nines vs 7
+    "9, 9, 8, SPLIT",
+    "4, 4, 5, SPLIT",
+    "4, 4, 4, HIT"
+  })
+  void testSixDeckStandsOnSoft17Chart(int c1, int c2, int up, PlayerAction expected) {
+    assertEquals(expected, sixDeck(handOf(c1, c2), up));
+  }
+
+  @Test
+  void testHitsSoft17Differences() {
+    BasicStrategy h17 = BasicStrategy.forRules(6, true);
+    Card ace = Card.of(1, Suit.CLUBS);
+    Card two = Card.of(2, Suit.CLUBS);
+    Card six = Card.of(6, Suit.CLUBS);
+
+    assertEquals(PlayerAction.DOUBLE, h17.decide(handOf(6, 5), ace, true, false));
+    assertEquals(PlayerAction.DOUBLE, h17.decide(handOf(1, 7), two, true, false));
+    assertEquals(PlayerAction.DOUBLE, h17.decide(handOf(1, 8), six, true, false));
+    assertEquals(PlayerAction.STAND, sixDeck(handOf(1, 8), 6));
+  }
+
+  @Test
+  void testSingleDeckDifferences() {
+    BasicStrategy single = BasicStrategy.forRules(1, false);
+    Card two = Card.of(2, Suit.CLUBS);
+    Card five = Card.of(5, Suit.CLUBS);
+
+    assertEquals(PlayerAction.DOUBLE, single.decide(handOf(5, 4), two, true, false));
+    assertEquals(PlayerAction.DOUBLE, single.decide(handOf(5, 3), five, true, false));
+    assertEquals(PlayerAction.HIT, sixDeck(handOf(5, 3), 5));
+  }
+
+  @Test
+  void testDoubleFallsBackWhenNotAllowed() {
+    BasicStrategy strategy = BasicStrategy.forRules(6, false);
+    Card four = Card.of(4, Suit.CLUBS);
+
+    assertEquals(PlayerAction.HIT, strategy.decide(handOf(6, 5), four, false, false));
+    // Soft 18 doubles against 4, otherwise stands
+    assertEquals(PlayerAction.STAND, strategy.decide(handOf(1, 7), four, false, false));
+    // Three-card hands can no longer double
+    assertEquals(PlayerAction.HIT, strategy.decide(handOf(2, 3, 5), four, false, false));
+  }
+
+  @Test
+  void testPairFallsThroughWhenSplitNotAllowed() {
+    BasicStrategy strategy = BasicStrategy.forRules(6, false);
+
+    assertEquals(
+        PlayerAction.HIT, strategy.decide(handOf(8, 8), Card.of(10, Suit.CLUBS), true, false));
+    // Soft 12 from an unsplit pair of aces
+    assertEquals(
+        PlayerAction.HIT, strategy.decide(handOf(1, 1), Card.of(6, Suit.CLUBS), true, false));
+  }
+
+  @Test
+  void testTablesAreCachedPerRuleSet() {
+    assertSame(BasicStrategy.forRules(6, true), BasicStrategy.forRules(6, true));
+    assertNotSame(BasicStrategy.forRules(6, true), BasicStrategy.forRules(6, false));
+    assertSame(BasicStrategy.forRules(8, false), BasicStrategy.forRules(20, false));
+    assertEquals(8, BasicStrategy.forRules(20, false).getDeckCount());
+  }
+
+  @Test
+  void testGameRecommendsForCurrentHand() {
+    BlackjackGame game = new BlackjackGame();
+    assertNull(game.recommendedAction(false));
+
+    game.startGame(6);
+    game.getPlayerHandDirect().add(Card.of(10, Suit.HEARTS));
+    game.getPlayerHandDirect().add(Card.of(6, Suit.HEARTS));
+    game.getDealerHandDirect().add(Card.of(10, Suit.CLUBS));
+    game.getDealerHandDirect().add(Card.of(7, Suit.CLUBS));
+
+    assertEquals(PlayerAction.HIT, game.recommendedAction(false));
+
+    game.stand();
+    assertNull(game.recommendedAction(false));
+  }
+
+  @Test
+  void testGameRecommendsSplittingEights() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(6);
+    game.getPlayerHandDirect().add(Card.of(8, Suit.HEARTS));
+    game.getPlayerHandDirect().add(Card.of(8, Suit.SPADES));
+    game.getDealerHandDirect().add(Card.of(10, Suit.CLUBS));
+    game.getDealerHandDirect().add(Card.of(7, Suit.CLUBS));
+
+    assertEquals(PlayerAction.SPLIT, game.recommendedAction(false));
+  }
+}
@@ -87,4 +87,51 @@ class CardTest {
     assertEquals(original.getValue(), reconstructed.getValue());
     assertEquals(original.getSuit(), reconstructed.getSuit());
   }
+
+  @Test
+  void testOrdinalByIdRoundTrip() {
+    for (int id = 0; id < Card.COUNT; id++) {
+      Card card = Card.byId(id);
+      assertEquals(id, card.ordinal());
+      assertEquals((card.getValue() - 1) * 4 + card.getSuit().ordinal(), id);
+    }
+  }
+
+  @Test
+  void testCanonicalInstances() {
+    assertSame(Card.of(7, Suit.CLUBS), Card.of(7, Suit.CLUBS));
+    assertSame(Card.of(1, Suit.SPADES), Card.fromName("spades_ace"));
+    assertSame(Card.byId(new Card(12, Suit.HEARTS).ordinal()), Card.of(12, Suit.HEARTS));
+  }
+
+  @Test
+  void testEqualityMatchesCanonicalCard() {
+    Card constructed = new Card(9, Suit.DIAMONDS);
+    assertEquals(Card.of(9, Suit.DIAMONDS), constructed);
+    assertEquals(Card.of(9, Suit.DIAMONDS).hashCode(), constructed.hashCode());
+    assertNotEquals(Card.of(9, Suit.HEARTS), constructed);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 52, 100})
+  void testByIdInvalid(int id) {
+    assertThrows(IllegalArgumentException.class, () -> Card.byId(id));
+  }
+
+  @Test
+  void testCardNamesAreInterned() {
+    for (int id = 0; id < Card.COUNT; id++) {
+      Card card = Card.byId(id);
+      assertSame(card.getCardName(), card.getCardName());
+      assertSame(card.getCardName(), new Card(card.getValue(), card.getSuit()).getCardName());
+      assertSame(card, Card.fromName(card.getCardName()));
+    }
+  }
+
+  @Test
+  void testFromNameOutsideTableStillParses() {
+    // Not canonical names, so they take the full parse rather than the table
+    assertSame(Card.of(1, Suit.HEARTS), Card.fromName("Hearts_Ace"));
+    assertSame(Card.of(7, Suit.CLUBS), Card.fromName("clubs_07"));
+  }
 }
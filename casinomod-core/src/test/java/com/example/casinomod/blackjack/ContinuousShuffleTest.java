@@ -0,0 +1,167 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ContinuousShuffleTest {
+
+  /** Plays one round at a continuously shuffled table: every seat hits to 15, then the dealer. */
+  private static void playRound(BlackjackGame game, int[] seats) {
+    game.startGame(game.getNumberOfDecks(), seats);
+    for (int pass = 0; pass < 2; pass++) {
+      for (int seat : seats) {
+        game.dealToSeat(seat);
+      }
+      game.dealToDealer();
+    }
+    game.setPhase(BlackjackGame.GamePhase.PLAYER_TURN);
+    while (game.getPhase() == BlackjackGame.GamePhase.PLAYER_TURN) {
+      if (game.getCurrentHand().value() < 15) {
+        game.hitPlayer();
+      } else {
+        game.stand();
+      }
+    }
+    game.playDealerTurn(false);
+  }
+
+  private static BlackjackGame continuousTable(long seed, int decks) {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(seed);
+    game.setNumberOfDecks(decks);
+    game.setContinuousShuffle(true);
+    return game;
+  }
+
+  @Test
+  void testReinsertKeepsCompositionAndCounts() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    shoe.shuffle(9L);
+    int[] dealt = new int[10];
+    for (int i = 0; i < dealt.length; i++) {
+      dealt[i] = shoe.drawId();
+    }
+
+    SplittableRandom random = new SplittableRandom(1L);
+    for (int id : dealt) {
+      assertTrue(shoe.reinsert(id, random));
+    }
+
+    assertEquals(52, shoe.remaining());
+    assertEquals(0, shoe.getRunningCount());
+    for (int rank = 1; rank <= 13; rank++) {
+      assertEquals(4, shoe.remainingOfRank(rank));
+    }
+    assertTrue(shoe.getSeed().isEmpty());
+    assertFalse(shoe.reinsert(dealt[0], random));
+  }
+
+  @Test
+  void testReinsertRejectsInvalidCard() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    shoe.draw();
+
+    assertThrows(
+        IllegalArgumentException.class, () -> shoe.reinsert(Card.COUNT, new SplittableRandom()));
+  }
+
+  @Test
+  void testReinsertedCardLandsAnywhere() {
+    // A single deck holds each card once, so the returned card is easy to find
+    boolean[] seen = new boolean[52];
+    SplittableRandom random = new SplittableRandom(4L);
+    for (int trial = 0; trial < 2000; trial++) {
+      Shoe shoe = new Shoe();
+      shoe.fill(1);
+      int id = shoe.drawId();
+      shoe.reinsert(id, random);
+      int[] order = shoe.undealtIds();
+      for (int i = 0; i < order.length; i++) {
+        if (order[i] == id) {
+          seen[i] = true;
+        }
+      }
+    }
+    for (int i = 0; i < seen.length; i++) {
+      assertTrue(seen[i], "Never reinserted at position " + i);
+    }
+  }
+
+  @Test
+  void testTableNeverRunsDown() {
+    BlackjackGame game = continuousTable(21L, 1);
+    int[] seats = {0, 1, 2, 3, 4, 5, 6};
+    for (int round = 0; round < 300; round++) {
+      playRound(game, seats);
+      game.reset();
+
+      assertEquals(52, game.getCardsRemaining(), "Round " + round);
+      assertFalse(game.isShuffleDue());
+      assertEquals(0, game.getRunningCount());
+    }
+  }
+
+  @Test
+  void testSeededTablesStayInStep() {
+    BlackjackGame first = continuousTable(77L, 2);
+    BlackjackGame second = continuousTable(77L, 2);
+    int[] seats = {0, 3};
+    for (int round = 0; round < 50; round++) {
+      playRound(first, seats);
+      playRound(second, seats);
+      assertEquals(first.getDealerHand(), second.getDealerHand(), "Round " + round);
+      first.reset();
+      second.reset();
+    }
+  }
+
+  @Test
+  void testJournalReplaysContinuousRound() {
+    BlackjackGame game = continuousTable(5L, 1);
+    int[] seats = {2};
+    for (int round = 0; round < 20; round++) {
+      playRound(game, seats);
+
+      BlackjackGame replayed = game.getJournal().replay();
+      assertEquals(game.getSeat(2).getHands(), replayed.getSeat(2).getHands());
+      assertEquals(game.getDealerHand(), replayed.getDealerHand());
+      game.reset();
+    }
+  }
+
+  @Test
+  void testTurningOnMidShoeStartsFreshShoe() {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(3L);
+    game.startGame(1);
+    for (int i = 0; i < 5; i++) {
+      game.draw();
+    }
+    game.reset();
+    assertEquals(47, game.getCardsRemaining());
+
+    game.setContinuousShuffle(true);
+    assertTrue(game.isShuffleDue());
+    game.startGame(1);
+    assertEquals(52, game.getCardsRemaining());
+  }
+
+  @Test
+  void testMidRoundRefillSkipsReturn() {
+    BlackjackGame game = continuousTable(8L, 1);
+    game.startGame(1);
+    game.dealToPlayer();
+    game.dealToDealer();
+    // Cards drawn without landing on the table make the count disagree, as after a refill
+    game.draw();
+    game.reset();
+
+    assertEquals(49, game.getCardsRemaining());
+    assertTrue(game.isShuffleDue());
+  }
+}
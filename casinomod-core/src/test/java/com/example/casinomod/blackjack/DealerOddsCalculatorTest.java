@@ -0,0 +1,175 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class DealerOddsCalculatorTest {
+
+  /** Unseen cards for {@code decks} full decks minus the given cards. */
+  private static int[] compositionWithout(int decks, Card... removed) {
+    int[] counts = new int[11];
+    for (int value = 1; value <= 9; value++) {
+      counts[value] = 4 * decks;
+    }
+    counts[10] = 16 * decks;
+    for (Card card : removed) {
+      counts[card.getBlackjackValue()]--;
+    }
+    return counts;
+  }
+
+  private static double total(DealerOdds odds) {
+    double sum = odds.getBust() + odds.getBlackjack();
+    for (int total = 17; total <= 21; total++) {
+      sum += odds.probabilityOf(total);
+    }
+    return sum;
+  }
+
+  @Test
+  void testProbabilitiesSumToOne() {
+    DealerOddsCalculator calculator = new DealerOddsCalculator(false);
+    for (int value = 1; value <= 10; value++) {
+      Card up = Card.of(value, Suit.CLUBS);
+      DealerOdds odds = calculator.odds(compositionWithout(6, up), up);
+      assertEquals(1.0, total(odds), 1e-9, "Up card " + value);
+    }
+  }
+
+  @Test
+  void testMatchesPublishedEightDeckValues() {
+    DealerOddsCalculator calculator = new DealerOddsCalculator(false);
+    Card six = Card.of(6, Suit.CLUBS);
+    Card ace = Card.of(1, Suit.CLUBS);
+
+    // Standard S17 dealer tables: a 6 busts about 42% of the time
+    assertEquals(0.42, calculator.odds(compositionWithout(8, six), six).getBust(), 0.01);
+    // Ace up: blackjack exactly when the hole card is a ten
+    DealerOdds aceUp = calculator.odds(compositionWithout(8, ace), ace);
+    assertEquals(128.0 / 415, aceUp.getBlackjack(), 1e-9);
+  }
+
+  @Test
+  void testHitSoft17ChangesOdds() {
+    Card six = Card.of(6, Suit.CLUBS);
+    int[] unseen = compositionWithout(6, six);
+
+    DealerOdds stands = new DealerOddsCalculator(false).odds(unseen, six);
+    DealerOdds hits = new DealerOddsCalculator(true).odds(unseen, six);
+
+    assertTrue(hits.getBust() > stands.getBust());
+    assertTrue(hits.probabilityOf(17) < stands.probabilityOf(17));
+  }
+
+  @Test
+  void testAgreesWithDealingFromTheShoe() {
+    Card up = Card.of(10, Suit.SPADES);
+    int[] undealt = new int[51];
+    for (int id = 0, i = 0; id < Card.COUNT; id++) {
+      if (id != up.ordinal()) undealt[i++] = id;
+    }
+
+    SplittableRandom random = new SplittableRandom(11);
+    Shoe shoe = new Shoe();
+    int trials = 200_000;
+    int busts = 0;
+    for (int t = 0; t < trials; t++) {
+      shoe.restore(1, 52, undealt);
+      shoe.shuffle(random);
+      HandState dealer = new HandState();
+      dealer.add(up);
+      while (dealer.value() < 17 || dealer.isSoftSeventeen()) {
+        dealer.add(shoe.draw());
+      }
+      if (dealer.isBusted()) busts++;
+    }
+
+    DealerOdds odds = new DealerOddsCalculator(true).odds(compositionWithout(1, up), up);
+    assertEquals(odds.getBust(), (double) busts / trials, 0.005);
+  }
+
+  @Test
+  void testRepeatedQueriesHitTheCache() {
+    DealerOddsCalculator calculator = new DealerOddsCalculator(false);
+    Card up = Card.of(7, Suit.HEARTS);
+    int[] unseen = compositionWithout(2, up);
+
+    DealerOdds first = calculator.odds(unseen, up);
+    long misses = calculator.getCacheMisses();
+    DealerOdds second = calculator.odds(unseen, up);
+
+    assertEquals(misses, calculator.getCacheMisses());
+    assertTrue(calculator.getCacheHits() > 0);
+    assertEquals(first.getBust(), second.getBust());
+  }
+
+  @Test
+  void testCacheIsBounded() {
+    DealerOddsCalculator calculator = new DealerOddsCalculator(false, 50);
+    Card up = Card.of(2, Suit.HEARTS);
+
+    DealerOdds bounded = calculator.odds(compositionWithout(4, up), up);
+    DealerOdds unbounded = new DealerOddsCalculator(false).odds(compositionWithout(4, up), up);
+
+    assertTrue(calculator.getCacheSize() <= 50);
+    assertEquals(unbounded.getBust(), bounded.getBust(), 1e-12);
+  }
+
+  @Test
+  void testWithoutBlackjackRenormalizes() {
+    Card ace = Card.of(1, Suit.CLUBS);
+    DealerOdds odds = new DealerOddsCalculator(false).odds(compositionWithout(6, ace), ace);
+    DealerOdds peeked = odds.withoutBlackjack();
+
+    assertEquals(0, peeked.getBlackjack());
+    assertEquals(1.0, total(peeked), 1e-9);
+    assertTrue(peeked.getBust() > odds.getBust());
+  }
+
+  @Test
+  void testStandEv() {
+    DealerOddsCalculator calculator = new DealerOddsCalculator(false);
+    Card six = Card.of(6, Suit.CLUBS);
+    Card ten = Card.of(10, Suit.CLUBS);
+    DealerOdds vsSix = calculator.odds(compositionWithout(6, six), six).withoutBlackjack();
+    DealerOdds vsTen = calculator.odds(compositionWithout(6, ten), ten).withoutBlackjack();
+
+    assertTrue(vsSix.standEv(20) > 0.6);
+    assertTrue(vsTen.standEv(16) < -0.5);
+    assertEquals(-1, vsSix.standEv(22));
+  }
+
+  @Test
+  void testRejectsInvalidComposition() {
+    DealerOddsCalculator calculator = new DealerOddsCalculator(false);
+    Card up = Card.of(5, Suit.CLUBS);
+
+    assertThrows(IllegalArgumentException.class, () -> calculator.odds(new int[11], up));
+    assertThrows(IllegalArgumentException.class, () -> calculator.odds(new int[10], up));
+    int[] negative = compositionWithout(1);
+    negative[3] = -1;
+    assertThrows(IllegalArgumentException.class, () -> calculator.odds(negative, up));
+  }
+
+  @Test
+  void testGameCountsHoleCardAsUnseen() {
+    BlackjackGame game = new BlackjackGame();
+    assertNull(game.dealerOdds(new DealerOddsCalculator(false)));
+
+    game.startGame(1);
+    game.dealToPlayer();
+    game.dealToDealer();
+    game.dealToPlayer();
+    game.dealToDealer();
+
+    int unseen = 0;
+    for (int count : game.getUnseenComposition()) {
+      unseen += count;
+    }
+    assertEquals(49, unseen);
+    assertEquals(1.0, total(game.dealerOdds(new DealerOddsCalculator(false))), 1e-9);
+  }
+}
@@ -0,0 +1,128 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.example.casinomod.core.MapState;
+
+import org.junit.jupiter.api.Test;
+
+class DealerTimelineTest {
+
+  /** Deals one seat and the dealer two cards each, then stands the seat. */
+  private static BlackjackGame dealerToPlay(long seed) {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(seed);
+    game.startGame(1, new int[] {0});
+    for (int pass = 0; pass < 2; pass++) {
+      game.dealToSeat(0);
+      game.dealToDealer();
+    }
+    game.setPhase(BlackjackGame.GamePhase.PLAYER_TURN);
+    game.stand();
+    return game;
+  }
+
+  @Test
+  void testOnePassMatchesStepwiseDealer() {
+    for (long seed = 0; seed < 100; seed++) {
+      for (boolean hitsSoft17 : new boolean[] {false, true}) {
+        BlackjackGame stepwise = dealerToPlay(seed);
+        while (stepwise.hitDealer(hitsSoft17)) {
+          // Dealer draws out
+        }
+        BlackjackGame onePass = dealerToPlay(seed);
+        DealerTimeline timeline = onePass.playDealerTurn(hitsSoft17);
+
+        assertEquals(BlackjackGame.GamePhase.FINISHED, onePass.getPhase());
+        assertEquals(stepwise.getDealerHand(), onePass.getDealerHand(), "Seed " + seed);
+        assertEquals(2, timeline.getStartCards());
+        assertEquals(onePass.getDealerHand().size() - 2, timeline.size());
+        for (int i = 0; i < timeline.size(); i++) {
+          assertEquals(onePass.getDealerHand().get(2 + i), timeline.drawnAt(i));
+        }
+        assertEquals(onePass.getHandValue(onePass.getDealerHand()), timeline.getFinalValue());
+        assertEquals(timeline.getFinalValue() > 21, timeline.isBust());
+        assertEquals(stepwise.determineSeatResult(0), onePass.determineSeatResult(0));
+      }
+    }
+  }
+
+  @Test
+  void testDealerHitsSoft17OnlyWhenTold() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    game.getDealerHandDirect().add(new Card(1, Suit.HEARTS));
+    game.getDealerHandDirect().add(new Card(6, Suit.SPADES));
+    game.setPhase(BlackjackGame.GamePhase.DEALER_TURN);
+
+    assertEquals(0, game.playDealerTurn(false).size());
+
+    game.setPhase(BlackjackGame.GamePhase.DEALER_TURN);
+    assertTrue(game.playDealerTurn(true).size() > 0);
+  }
+
+  @Test
+  void testNoTimelineOutsideDealerTurn() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    game.setPhase(BlackjackGame.GamePhase.PLAYER_TURN);
+    assertSame(DealerTimeline.NONE, game.playDealerTurn(false));
+    assertEquals(BlackjackGame.GamePhase.PLAYER_TURN, game.getPhase());
+
+    game.setPhase(BlackjackGame.GamePhase.FINISHED);
+    assertSame(DealerTimeline.NONE, game.playDealerTurn(false));
+  }
+
+  @Test
+  void testCardsShownAtClampsStep() {
+    DealerTimeline timeline = new DealerTimeline(2, new byte[] {3, 17}, 19);
+
+    assertEquals(2, timeline.cardsShownAt(-1));
+    assertEquals(2, timeline.cardsShownAt(0));
+    assertEquals(3, timeline.cardsShownAt(1));
+    assertEquals(4, timeline.cardsShownAt(2));
+    assertEquals(4, timeline.cardsShownAt(5));
+    assertFalse(timeline.isBust());
+  }
+
+  @Test
+  void testJournalReplaysDealerTurn() {
+    for (long seed = 0; seed < 30; seed++) {
+      BlackjackGame game = dealerToPlay(seed);
+      game.playDealerTurn(true);
+
+      BlackjackGame replayed = game.getJournal().replay();
+      assertEquals(BlackjackGame.GamePhase.FINISHED, replayed.getPhase());
+      assertEquals(game.getDealerHand(), replayed.getDealerHand());
+      assertEquals(game.getCardsRemaining(), replayed.getCardsRemaining());
+    }
+  }
+
+  @Test
+  void testTableViewHoldsBackUnrevealedCards() {
+    BlackjackGame game = null;
+    DealerTimeline timeline = DealerTimeline.NONE;
+    for (long seed = 0; timeline.size() == 0; seed++) {
+      game = dealerToPlay(seed);
+      timeline = game.playDealerTurn(false);
+    }
+
+    for (int step = 0; step <= timeline.size(); step++) {
+      MapState view = new MapState();
+      game.serializeTableView(view, timeline, step);
+      BlackjackGame client = new BlackjackGame();
+      client.deserialize(view.input());
+
+      assertEquals(BlackjackGame.GamePhase.DEALER_TURN, client.getPhase());
+      assertEquals(
+          game.getDealerHand().subList(0, timeline.cardsShownAt(step)), client.getDealerHand());
+    }
+
+    MapState view = new MapState();
+    game.serializeTableView(view, timeline, timeline.size() + 1);
+    BlackjackGame client = new BlackjackGame();
+    client.deserialize(view.input());
+    assertEquals(BlackjackGame.GamePhase.FINISHED, client.getPhase());
+    assertEquals(game.getDealerHand(), client.getDealerHand());
+  }
+}
@@ -0,0 +1,231 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import com.example.casinomod.core.MapState;
+import com.example.casinomod.core.StateInput;
+import com.example.casinomod.core.StateOutput;
+
+import org.junit.jupiter.api.Test;
+
+class GameSerializationTest {
+
+  private static BlackjackGame reload(MapState saved) {
+    BlackjackGame game = new BlackjackGame();
+    game.deserialize(saved.input());
+    return game;
+  }
+
+  @Test
+  void testSavesShoeBetweenRounds() {
+    BlackjackGame game = new BlackjackGame();
+    game.setPenetration(0.6);
+    game.startGame(2);
+    game.reset();
+
+    MapState saved = new MapState();
+    game.serialize(saved);
+    assertTrue(saved.has("shoe"));
+    assertFalse(saved.has("journal"));
+
+    BlackjackGame loaded = reload(saved);
+    assertEquals(game.getCardsRemaining(), loaded.getCardsRemaining());
+    assertEquals(0.6, loaded.getPenetration(), 1e-9);
+    for (int i = 0; i < 20; i++) {
+      assertSame(game.draw(), loaded.draw());
+    }
+  }
+
+  @Test
+  void testSavesRoundAsJournal() {
+    for (long seed = 0; seed < 40; seed++) {
+      BlackjackGame game = new BlackjackGame();
+      game.setSeed(seed);
+      game.startGame(1, new int[] {1, 4});
+      for (int pass = 0; pass < 2; pass++) {
+        game.dealToSeat(1);
+        game.dealToSeat(4);
+        game.dealToDealer();
+      }
+      game.setPhase(BlackjackGame.GamePhase.PLAYER_TURN);
+      if (game.canSplit()) {
+        game.splitPairs();
+      }
+      if (game.canDoubleDown()) {
+        game.doubleDown();
+      }
+
+      MapState saved = new MapState();
+      game.serialize(saved);
+      assertTrue(saved.has("journal"));
+      assertFalse(saved.has("shoe"));
+      assertFalse(saved.has("seats"));
+
+      BlackjackGame loaded = reload(saved);
+      assertEquals(game.getPhase(), loaded.getPhase());
+      assertEquals(game.getActiveSeatIndex(), loaded.getActiveSeatIndex());
+      for (int seat : game.getSeatsInPlay()) {
+        assertEquals(game.getSeat(seat).getHands(), loaded.getSeat(seat).getHands());
+        assertEquals(game.getSeat(seat).getTotalWager(), loaded.getSeat(seat).getTotalWager());
+      }
+      assertEquals(game.getDealerHand(), loaded.getDealerHand());
+      assertSame(game.draw(), loaded.draw(), "Seed " + seed);
+    }
+  }
+
+  @Test
+  void testTableViewHidesShoe() {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(4);
+    game.startGame(1, new int[] {0, 2});
+    game.dealToSeat(0);
+    game.dealToSeat(2);
+    game.dealToDealer();
+    game.stand();
+
+    MapState view = new MapState();
+    game.serializeTableView(view);
+    assertFalse(view.has("shoe"));
+    assertFalse(view.has("journal"));
+
+    BlackjackGame client = reload(view);
+    assertArrayEquals(new int[] {0, 2}, client.getSeatsInPlay());
+    assertEquals(2, client.getActiveSeatIndex());
+    assertEquals(game.getSeat(0).getHands(), client.getSeat(0).getHands());
+    assertEquals(game.getSeat(2).getHands(), client.getSeat(2).getHands());
+    assertEquals(game.getDealerHand(), client.getDealerHand());
+  }
+
+  @Test
+  void testInvalidJournalResetsTable() {
+    MapState saved = new MapState();
+    saved.child("journal").putInt("decks", 99);
+
+    BlackjackGame loaded = reload(saved);
+    assertEquals(BlackjackGame.GamePhase.WAITING, loaded.getPhase());
+    assertEquals(0, loaded.getSeatsInPlay().length);
+  }
+
+  @Test
+  void testJournalWriteReadRoundTrip() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    game.dealToPlayer();
+    game.dealToDealer();
+
+    MapState saved = new MapState();
+    game.getJournal().write(saved);
+    RoundJournal read = RoundJournal.read(saved.input());
+
+    assertEquals(game.getJournal().size(), read.size());
+    assertEquals(game.getPlayerHand(), read.replay().getPlayerHand());
+    assertEquals(game.getDealerHand(), read.replay().getDealerHand());
+  }
+
+  @Test
+  void testClampsSavedHandIndex() {
+    MapState saved = new MapState();
+    saved.putInt("version", BlackjackGame.FORMAT_VERSION);
+    saved.putInt("phase", BlackjackGame.GamePhase.PLAYER_TURN.ordinal());
+    MapState seat = (MapState) saved.childrenList("seats").addChild();
+    seat.putInt("seat", 0);
+    seat.putInt("hand", 7);
+    StateOutput.ChildList hands = seat.childrenList("hands");
+    for (Card card : List.of(Card.of(8, Suit.HEARTS), Card.of(8, Suit.SPADES))) {
+      StateOutput hand = hands.addChild();
+      hand.putByteArray("cards", new byte[] {(byte) card.ordinal()}, 0, 1);
+    }
+    assertEquals(1, reload(saved).getSeat(0).getCurrentHandIndex());
+
+    seat.putInt("hand", -3);
+    assertEquals(0, reload(saved).getSeat(0).getCurrentHandIndex());
+  }
+
+  /** A mid-round table as version 1 saved it: names for cards, strings for numbers. */
+  private static MapState legacySave() {
+    MapState saved = new MapState();
+    saved.putString("phase", "PLAYER_TURN");
+    saved.putString("numberOfDecks", "2");
+    saved.putString("penetration", "0.5");
+    MapState shoe = saved.child("shoe");
+    shoe.putInt("decks", 2);
+    shoe.putInt("size", 104);
+    shoe.putIntArray("cards", new int[] {0, 5, 51});
+    saved.putInt("activeSeat", 3);
+
+    MapState seat = (MapState) saved.childrenList("seats").addChild();
+    seat.putInt("seat", 3);
+    seat.putString("doubledDown", "false");
+    seat.putString("hasSplit", "true");
+    seat.putString("splitAces", "false");
+    seat.putString("currentHandIndex", "1");
+    StateOutput.ChildList hands = seat.childrenList("playerHands");
+    for (String[] cards : new String[][] {{"hearts_8", "clubs_3"}, {"spades_8"}}) {
+      StateOutput hand = hands.addChild();
+      hand.putInt("bet", 1);
+      StateOutput.ChildList cardList = hand.childrenList("cards");
+      for (String card : cards) {
+        cardList.addChild().putString("card", card);
+      }
+    }
+    StateOutput.ChildList dealer = saved.childrenList("dealerHand");
+    dealer.addChild().putString("card", "diamonds_k");
+    dealer.addChild().putString("card", "hearts_ace");
+    return saved;
+  }
+
+  @Test
+  void testWritesCompactFormat() {
+    BlackjackGame game = new BlackjackGame();
+    game.deserialize(legacySave().input());
+
+    MapState saved = new MapState();
+    game.serialize(saved);
+    StateInput input = saved.input();
+    assertEquals(BlackjackGame.FORMAT_VERSION, input.getIntOr("version", 0));
+    assertEquals(BlackjackGame.GamePhase.PLAYER_TURN.ordinal(), input.getIntOr("phase", -1));
+    assertFalse(saved.has("dealerHand"));
+    assertArrayEquals(
+        new byte[] {
+          (byte) Card.fromName("diamonds_k").ordinal(),
+          (byte) Card.fromName("hearts_ace").ordinal()
+        },
+        input.getByteArray("dealer").orElseThrow());
+    StateInput seat = input.childrenList("seats").orElseThrow().iterator().next();
+    assertEquals(2, seat.getIntOr("flags", 0));
+    assertEquals(1, seat.getIntOr("hand", 0));
+  }
+
+  @Test
+  void testMigratesLegacySave() {
+    BlackjackGame game = new BlackjackGame();
+    game.deserialize(legacySave().input());
+
+    assertEquals(BlackjackGame.GamePhase.PLAYER_TURN, game.getPhase());
+    assertEquals(2, game.getNumberOfDecks());
+    assertEquals(0.5, game.getPenetration(), 1e-9);
+    assertEquals(3, game.getCardsRemaining());
+    assertEquals(3, game.getActiveSeatIndex());
+    Seat seat = game.getSeat(3);
+    assertTrue(seat.hasSplit());
+    assertEquals(1, seat.getCurrentHandIndex());
+    assertEquals(List.of(Card.of(8, Suit.HEARTS), Card.of(3, Suit.CLUBS)), seat.getHand(0));
+    assertEquals(List.of(Card.of(8, Suit.SPADES)), seat.getHand(1));
+    assertEquals(
+        List.of(Card.of(13, Suit.DIAMONDS), Card.of(1, Suit.HEARTS)), game.getDealerHand());
+
+    // Saving again writes the compact format, which loads back to the same table
+    MapState resaved = new MapState();
+    game.serialize(resaved);
+    BlackjackGame reloaded = reload(resaved);
+    assertEquals(game.getPhase(), reloaded.getPhase());
+    assertEquals(game.getNumberOfDecks(), reloaded.getNumberOfDecks());
+    assertEquals(seat.getHands(), reloaded.getSeat(3).getHands());
+    assertEquals(game.getDealerHand(), reloaded.getDealerHand());
+    for (int i = 0; i < 3; i++) {
+      assertSame(game.draw(), reloaded.draw());
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class HandStateTest {
+
+  private static HandState handOf(int... values) {
+    HandState hand = new HandState();
+    for (int value : values) {
+      hand.add(Card.of(value, Suit.HEARTS));
+    }
+    return hand;
+  }
+
+  @Test
+  void testEmptyHand() {
+    HandState hand = new HandState();
+
+    assertEquals(0, hand.value());
+    assertEquals(0, hand.size());
+    assertFalse(hand.isSoft());
+    assertFalse(hand.isBusted());
+    assertFalse(hand.isBlackjack());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "1, 6, 0, 17, true", // A-6 soft 17
+    "1, 1, 0, 12, true", // A-A soft 12
+    "10, 7, 0, 17, false", // hard 17
+    "1, 7, 8, 16, false", // ace forced to 1
+    "10, 10, 5, 25, false", // bust
+    "1, 1, 9, 21, true" // A-A-9 soft 21
+  })
+  void testRunningValue(int c1, int c2, int c3, int expectedValue, boolean expectedSoft) {
+    HandState hand = c3 == 0 ? handOf(c1, c2) : handOf(c1, c2, c3);
+
+    assertEquals(expectedValue, hand.value());
+    assertEquals(expectedSoft, hand.isSoft());
+    assertEquals(expectedValue > 21, hand.isBusted());
+  }
+
+  @Test
+  void testSoftSeventeen() {
+    assertTrue(handOf(1, 6).isSoftSeventeen());
+    assertTrue(handOf(1, 2, 4).isSoftSeventeen());
+    assertTrue(handOf(1, 1, 5).isSoftSeventeen());
+    assertFalse(handOf(10, 7).isSoftSeventeen());
+    assertFalse(handOf(1, 6, 10).isSoftSeventeen()); // hard 17
+  }
+
+  @Test
+  void testBlackjackRequiresTwoCards() {
+    assertTrue(handOf(1, 13).isBlackjack());
+    assertFalse(handOf(7, 7, 7).isBlackjack());
+  }
+
+  @Test
+  void testRemoveAndSetKeepTotalsConsistent() {
+    HandState hand = handOf(1, 5, 9);
+    assertEquals(15, hand.value());
+
+    hand.remove(2);
+    assertEquals(16, hand.value());
+    assertTrue(hand.isSoft());
+
+    hand.set(0, Card.of(10, Suit.SPADES));
+    assertEquals(15, hand.value());
+    assertEquals(0, hand.aceCount());
+
+    hand.add(0, Card.of(1, Suit.CLUBS));
+    assertEquals(16, hand.value());
+    assertEquals(1, hand.get(0).getValue());
+  }
+
+  @Test
+  void testClearResetsTotals() {
+    HandState hand = handOf(1, 10);
+    hand.clear();
+
+    assertEquals(0, hand.value());
+    assertEquals(0, hand.aceCount());
+    assertTrue(hand.isEmpty());
+  }
+
+  @Test
+  void testGrowsBeyondInitialCapacity() {
+    HandState hand = new HandState();
+    for (int i = 0; i < 20; i++) {
+      hand.add(Card.of(1, Suit.values()[i % 4]));
+    }
+
+    assertEquals(20, hand.size());
+    assertEquals(20, hand.value()); // all aces hard, one would bust as 11
+  }
+
+  @Test
+  void testCopyIsIndependent() {
+    HandState original = handOf(1, 6);
+    HandState copy = new HandState(original);
+
+    copy.add(Card.of(5, Suit.CLUBS));
+
+    assertEquals(17, original.value());
+    assertEquals(2, original.size());
+    assertEquals(12, copy.value());
+  }
+
+  @Test
+  void testListSemantics() {
+    HandState hand = handOf(2, 3);
+
+    assertEquals(List.of(Card.of(2, Suit.HEARTS), Card.of(3, Suit.HEARTS)), hand);
+    assertEquals(Card.of(3, Suit.HEARTS).ordinal(), hand.getId(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> hand.get(2));
+  }
+
+  @Test
+  void testGameUsesRunningTotals() {
+    BlackjackGame game = new BlackjackGame();
+    game.getDealerHandDirect().add(Card.of(1, Suit.HEARTS));
+    game.getDealerHandDirect().add(Card.of(6, Suit.SPADES));
+
+    assertTrue(game.getDealerHandDirect().isSoftSeventeen());
+    assertEquals(17, game.getHandValue(game.getDealerHand()));
+    assertEquals(17, game.getHandValue(List.of(Card.of(1, Suit.CLUBS), Card.of(6, Suit.CLUBS))));
+  }
+
+  @Test
+  void testViewIsReadOnlyAndLive() {
+    HandState hand = handOf(5, 6);
+    List<Card> view = hand.view();
+
+    assertSame(view, hand.view());
+    assertThrows(UnsupportedOperationException.class, () -> view.add(Card.of(2, Suit.CLUBS)));
+    assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+
+    hand.add(Card.of(9, Suit.CLUBS));
+    assertEquals(3, view.size());
+    assertEquals(hand, view);
+  }
+
+  @Test
+  void testGameAccessorsReturnViewsWithoutCopying() {
+    BlackjackGame game = new BlackjackGame();
+    assertTrue(game.getPlayerHand().isEmpty());
+    assertTrue(game.getPlayerHand(3).isEmpty());
+
+    game.startGame(1);
+    game.dealToPlayer();
+    game.dealToDealer();
+
+    assertSame(game.getPlayerHand(), game.getPlayerHand());
+    assertSame(game.getPlayerHand(0), game.getPlayerHand());
+    assertSame(game.getDealerHand(), game.getDealerHand());
+    assertSame(game.getAllPlayerHands(), game.getAllPlayerHands());
+    assertSame(game.getPlayerHand(), game.getAllPlayerHands().get(0));
+    assertThrows(UnsupportedOperationException.class, () -> game.getDealerHand().clear());
+    assertThrows(
+        UnsupportedOperationException.class, () -> game.getAllPlayerHands().add(List.of()));
+
+    game.dealToPlayer();
+    assertEquals(2, game.getPlayerHand().size());
+    assertEquals(game.getPlayerHandDirect().value(), game.getHandValue(game.getPlayerHand()));
+  }
+}
@@ -0,0 +1,137 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class MultiSeatTest {
+
+  private static BlackjackGame tableWith(int... seats) {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(7);
+    game.startGame(1, seats);
+    return game;
+  }
+
+  /** Adds cards to the hand of the seat whose turn it is. */
+  private static void give(BlackjackGame game, int... values) {
+    for (int value : values) {
+      game.getPlayerHandDirect().add(Card.of(value, Suit.SPADES));
+    }
+  }
+
+  @Test
+  void testSeatsAreTakenInOrder() {
+    BlackjackGame game = tableWith(1, 3, 5);
+
+    assertArrayEquals(new int[] {1, 3, 5}, game.getSeatsInPlay());
+    assertFalse(game.getSeat(0).isPlaying());
+    assertEquals(1, game.getActiveSeatIndex());
+
+    game.stand();
+    assertEquals(3, game.getActiveSeatIndex());
+    assertEquals(BlackjackGame.GamePhase.PLAYER_TURN, game.getPhase());
+    game.stand();
+    assertEquals(5, game.getActiveSeatIndex());
+    game.stand();
+    assertEquals(BlackjackGame.GamePhase.DEALER_TURN, game.getPhase());
+  }
+
+  @Test
+  void testSeatsShareTheShoeAndDealerHand() {
+    BlackjackGame game = tableWith(0, 2, 4);
+    int before = game.getCardsRemaining();
+
+    for (int pass = 0; pass < 2; pass++) {
+      for (int seat : game.getSeatsInPlay()) {
+        game.dealToSeat(seat);
+      }
+      game.dealToDealer();
+    }
+
+    for (int seat : game.getSeatsInPlay()) {
+      assertEquals(2, game.getSeat(seat).getCurrentHand().size());
+    }
+    assertEquals(2, game.getDealerHand().size());
+    assertEquals(before - 8, game.getCardsRemaining());
+  }
+
+  @Test
+  void testDealerPlaysOnceForTheWholeTable() {
+    BlackjackGame game = tableWith(0, 1);
+    give(game, 10, 10);
+    game.stand();
+    give(game, 10, 10, 10);
+    game.hitPlayer();
+
+    // Seat 0 still has a live hand, so the dealer has to play
+    assertEquals(BlackjackGame.GamePhase.DEALER_TURN, game.getPhase());
+    game.getDealerHandDirect().add(Card.of(10, Suit.CLUBS));
+    game.getDealerHandDirect().add(Card.of(7, Suit.CLUBS));
+    assertFalse(game.hitDealer(false));
+
+    assertEquals(BlackjackGame.Result.WIN, game.determineSeatResult(0));
+    assertEquals(BlackjackGame.Result.LOSE, game.determineSeatResult(1));
+  }
+
+  @Test
+  void testDealerSkippedWhenEverySeatBusts() {
+    BlackjackGame game = tableWith(0, 2);
+    give(game, 10, 10, 10);
+    game.hitPlayer();
+    assertEquals(2, game.getActiveSeatIndex());
+    give(game, 10, 10, 10);
+    game.hitPlayer();
+
+    assertEquals(BlackjackGame.GamePhase.FINISHED, game.getPhase());
+    assertEquals(BlackjackGame.Result.LOSE, game.determineSeatResult(0));
+    assertEquals(BlackjackGame.Result.LOSE, game.determineSeatResult(2));
+  }
+
+  @Test
+  void testSplitAndDoubleStayWithTheirSeat() {
+    BlackjackGame game = tableWith(0, 1);
+    give(game, 8, 8);
+    assertTrue(game.canSplit());
+    game.splitPairs();
+
+    assertTrue(game.getSeat(0).hasSplit());
+    assertFalse(game.getSeat(1).hasSplit());
+    assertEquals(2, game.getSeat(0).getHandCount());
+
+    // Both split hands are played before the next seat
+    game.stand();
+    assertEquals(0, game.getActiveSeatIndex());
+    assertEquals(1, game.getSeat(0).getCurrentHandIndex());
+    game.stand();
+    assertEquals(1, game.getActiveSeatIndex());
+
+    give(game, 6, 5);
+    game.doubleDown();
+    assertTrue(game.getSeat(1).hasDoubledDown());
+    assertFalse(game.getSeat(0).hasDoubledDown());
+  }
+
+  @Test
+  void testSplitHandsAreNotBlackjack() {
+    BlackjackGame game = tableWith(0, 1);
+    give(game, 1, 10);
+    assertTrue(game.getSeat(0).isBlackjack());
+    game.stand();
+    give(game, 1, 1);
+    game.splitPairs();
+    assertFalse(game.getSeat(1).isBlackjack());
+  }
+
+  @Test
+  void testSingleSeatGameUsesSeatZero() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(2);
+
+    assertArrayEquals(new int[] {0}, game.getSeatsInPlay());
+    assertSame(game.getSeat(0).getHands(), game.getAllPlayerHands());
+
+    game.reset();
+    assertEquals(0, game.getSeatsInPlay().length);
+  }
+}
@@ -89,4 +89,64 @@ class PayoutTest {
     int blackjackTotal2 = evenWager + (evenWager * 3 / 2); // 4 + 6 = 10
     assertEquals(10, blackjackTotal2);
   }
+
+  /** A finished single-seat game whose hands and dealer hand hold exactly the given values. */
+  private static BlackjackGame finishedGame(int[] dealer, int[]... hands) {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    Seat seat = game.getSeat(0);
+    seat.reset(false);
+    for (int[] values : hands) {
+      HandState hand = seat.addHand();
+      for (int value : values) {
+        hand.add(Card.of(value, Suit.HEARTS));
+      }
+    }
+    for (int value : dealer) {
+      game.getDealerHandDirect().add(Card.of(value, Suit.CLUBS));
+    }
+    game.setPhase(BlackjackGame.GamePhase.FINISHED);
+    return game;
+  }
+
+  @Test
+  void testPayoutForSingleHand() {
+    assertEquals(25, finishedGame(new int[] {10, 7}, new int[] {1, 10}).payoutFor(0, 10));
+    assertEquals(20, finishedGame(new int[] {10, 7}, new int[] {10, 9}).payoutFor(0, 10));
+    assertEquals(10, finishedGame(new int[] {10, 7}, new int[] {10, 7}).payoutFor(0, 10));
+    assertEquals(0, finishedGame(new int[] {10, 9}, new int[] {10, 7}).payoutFor(0, 10));
+  }
+
+  @Test
+  void testPayoutForSplitHandsIsPerHand() {
+    BlackjackGame game =
+        finishedGame(
+            new int[] {10, 8}, new int[] {8, 10, 1}, new int[] {8, 10}, new int[] {8, 10, 5});
+
+    // Win, push and bust: 2 + 1 + 0 base wagers back
+    assertEquals(30, game.payoutFor(0, 10));
+  }
+
+  @Test
+  void testPayoutForDoubledHand() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    game.getPlayerHandDirect().add(Card.of(6, Suit.HEARTS));
+    game.getPlayerHandDirect().add(Card.of(5, Suit.HEARTS));
+    game.doubleDown();
+    game.getDealerHandDirect().add(Card.of(10, Suit.CLUBS));
+    game.getDealerHandDirect().add(Card.of(6, Suit.CLUBS));
+    game.getDealerHandDirect().add(Card.of(10, Suit.SPADES));
+    game.setPhase(BlackjackGame.GamePhase.FINISHED);
+
+    // The doubled stake of 20 wins even money against the dealer's bust
+    assertEquals(40, game.payoutFor(0, 10));
+  }
+
+  @Test
+  void testPayoutForUnfinishedRoundIsZero() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    assertEquals(0, game.payoutFor(0, 10));
+  }
 }
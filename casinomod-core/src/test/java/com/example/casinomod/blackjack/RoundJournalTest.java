@@ -0,0 +1,158 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class RoundJournalTest {
+
+  private static void assertSameTable(BlackjackGame expected, BlackjackGame actual) {
+    assertEquals(expected.getPhase(), actual.getPhase());
+    assertArrayEquals(expected.getSeatsInPlay(), actual.getSeatsInPlay());
+    assertEquals(expected.getActiveSeatIndex(), actual.getActiveSeatIndex());
+    for (int seat : expected.getSeatsInPlay()) {
+      assertEquals(expected.getSeat(seat).getHands(), actual.getSeat(seat).getHands());
+      for (int i = 0; i < expected.getSeat(seat).getHandCount(); i++) {
+        assertEquals(
+            expected.getSeat(seat).getHandWager(i), actual.getSeat(seat).getHandWager(i));
+      }
+    }
+    assertEquals(expected.getDealerHand(), actual.getDealerHand());
+    assertEquals(expected.getCardsRemaining(), actual.getCardsRemaining());
+    assertEquals(expected.getShoeSeed(), actual.getShoeSeed());
+  }
+
+  /** Plays a full round with every kind of action, choosing moves from the cards dealt. */
+  private static BlackjackGame playRound(long seed) {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(seed);
+    game.startGame(2, new int[] {0, 3});
+    for (int pass = 0; pass < 2; pass++) {
+      game.dealToSeat(0);
+      game.dealToSeat(3);
+      game.dealToDealer();
+    }
+    game.setPhase(BlackjackGame.GamePhase.PLAYER_TURN);
+
+    while (game.getPhase() == BlackjackGame.GamePhase.PLAYER_TURN) {
+      HandState hand = game.getCurrentHand();
+      if (game.canSplit()) {
+        game.splitPairs();
+      } else if (game.canDoubleDown() && hand.value() >= 10 && hand.value() <= 11) {
+        game.doubleDown();
+      } else if (hand.value() < 15) {
+        game.hitPlayer();
+      } else {
+        game.stand();
+      }
+    }
+    while (game.hitDealer(true)) {
+      // Dealer draws out
+    }
+    return game;
+  }
+
+  @Test
+  void testReplayRebuildsRound() {
+    for (long seed = 0; seed < 50; seed++) {
+      BlackjackGame game = playRound(seed);
+      BlackjackGame replayed = game.getJournal().replay();
+
+      assertSameTable(game, replayed);
+      // The shoe carries on from the same place
+      for (int i = 0; i < 10; i++) {
+        assertSame(game.draw(), replayed.draw(), "Seed " + seed);
+      }
+    }
+  }
+
+  @Test
+  void testReplayRecordsTheSameJournal() {
+    BlackjackGame game = playRound(3);
+    RoundJournal original = game.getJournal();
+    RoundJournal replayed = original.replay().getJournal();
+
+    assertEquals(original.size(), replayed.size());
+    for (int i = 0; i < original.size(); i++) {
+      assertEquals(original.actionAt(i), replayed.actionAt(i));
+      assertEquals(original.operandAt(i), replayed.operandAt(i));
+    }
+  }
+
+  @Test
+  void testActionsAreRecordedInOrder() {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(1);
+    game.startGame(1, new int[] {2});
+    game.dealToSeat(2);
+    game.dealToDealer();
+    game.stand();
+    game.hitDealer(true);
+
+    RoundJournal journal = game.getJournal();
+    assertTrue(journal.isActive());
+    assertEquals(4, journal.size());
+    assertEquals(RoundJournal.Action.DEAL, journal.actionAt(0));
+    assertEquals(2, journal.operandAt(0));
+    assertEquals(RoundJournal.Action.DEAL_DEALER, journal.actionAt(1));
+    assertEquals(RoundJournal.Action.STAND, journal.actionAt(2));
+    assertEquals(RoundJournal.Action.DEALER_HIT, journal.actionAt(3));
+    assertEquals(1, journal.operandAt(3));
+    assertArrayEquals(new int[] {2}, journal.getSeats());
+  }
+
+  @Test
+  void testRejectedActionsAreNotRecorded() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    game.hitDealer(false); // Not the dealer's turn
+    game.splitPairs(); // No pair
+
+    assertEquals(0, game.getJournal().size());
+  }
+
+  @Test
+  void testReplaysMidRoundReshuffle() {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(9);
+    game.startGame(1);
+    // Run the single deck dry so the shoe is refilled during the round
+    for (int i = 0; i < 60; i++) {
+      game.dealToDealer();
+    }
+
+    BlackjackGame replayed = game.getJournal().replay();
+    assertEquals(game.getDealerHand(), replayed.getDealerHand());
+    assertEquals(game.getShoeSeed(), replayed.getShoeSeed());
+    assertSame(game.draw(), replayed.draw());
+  }
+
+  @Test
+  void testReplayKeepsTableRules() {
+    BlackjackGame game = new BlackjackGame();
+    game.setMaxHands(2);
+    game.setResplitAces(true);
+    game.setPenetration(0.5);
+    game.startGame(3);
+
+    BlackjackGame replayed = game.getJournal().replay();
+    assertEquals(2, replayed.getMaxHands());
+    assertTrue(replayed.isResplitAces());
+    assertFalse(replayed.isHitSplitAces());
+    assertEquals(0.5, replayed.getPenetration(), 1e-9);
+    assertEquals(3, replayed.getNumberOfDecks());
+  }
+
+  @Test
+  void testResetEndsJournal() {
+    BlackjackGame game = playRound(5);
+    RoundJournal kept = game.getJournal().copy();
+    game.reset();
+
+    assertFalse(game.getJournal().isActive());
+    assertEquals(0, game.getJournal().size());
+    // Copies outlive the round, e.g. for audit records
+    assertTrue(kept.size() > 0);
+    assertEquals(BlackjackGame.GamePhase.FINISHED, kept.replay().getPhase());
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ShoePoolTest {
+
+  @Test
+  void testPrefillFillsEveryDeckCount() {
+    ShoePool pool = new ShoePool(2, Runnable::run);
+    pool.prefill();
+
+    for (int deckCount = 1; deckCount <= Shoe.MAX_DECKS; deckCount++) {
+      assertEquals(2, pool.readyCount(deckCount));
+    }
+  }
+
+  @Test
+  void testTakeHitLoadsShuffledShoe() {
+    ShoePool pool = new ShoePool(1, Runnable::run);
+    pool.prefill();
+    Shoe shoe = new Shoe();
+
+    assertTrue(pool.take(6, shoe));
+
+    assertEquals(6, shoe.getDeckCount());
+    assertEquals(6 * 52, shoe.remaining());
+    assertEquals(1, pool.getHits());
+    assertEquals(0, pool.getMisses());
+    // Replenished straight away by the direct executor
+    assertEquals(1, pool.readyCount(6));
+  }
+
+  @Test
+  void testTakeMissLeavesShoeUntouched() {
+    List<Runnable> queued = new ArrayList<>();
+    ShoePool pool = new ShoePool(1, queued::add);
+    Shoe shoe = new Shoe();
+
+    assertFalse(pool.take(2, shoe));
+
+    assertTrue(shoe.isEmpty());
+    assertEquals(1, pool.getMisses());
+    assertEquals(1, queued.size());
+
+    queued.get(0).run();
+    assertEquals(1, pool.readyCount(2));
+    assertTrue(pool.take(2, shoe));
+  }
+
+  @Test
+  void testReplenishNeverExceedsDepth() {
+    List<Runnable> queued = new ArrayList<>();
+    ShoePool pool = new ShoePool(2, queued::add);
+
+    pool.prefill();
+    pool.prefill();
+
+    assertEquals(2 * Shoe.MAX_DECKS, queued.size());
+  }
+
+  @Test
+  void testPooledShoeHasFullComposition() {
+    ShoePool pool = new ShoePool(1, Runnable::run);
+    pool.prefill();
+    Shoe shoe = new Shoe();
+    pool.take(2, shoe);
+
+    int[] counts = new int[Card.COUNT];
+    while (!shoe.isEmpty()) {
+      counts[shoe.drawId()]++;
+    }
+    for (int count : counts) {
+      assertEquals(2, count);
+    }
+  }
+
+  @Test
+  void testPooledShoeSeedReproducesOrder() {
+    ShoePool pool = new ShoePool(1, Runnable::run);
+    pool.prefill();
+    Shoe pooled = new Shoe();
+    pool.take(3, pooled);
+
+    Shoe replay = new Shoe();
+    replay.fill(3);
+    replay.shuffle(pooled.getSeed().orElseThrow());
+    while (!pooled.isEmpty()) {
+      assertSame(replay.draw(), pooled.draw());
+    }
+  }
+
+  @Test
+  void testGameDrawsFromActivePool() {
+    ShoePool.start();
+    try {
+      BlackjackGame game = new BlackjackGame();
+      game.startGame(4);
+      assertEquals(4 * 52, game.getCardsRemaining());
+      assertEquals(1, ShoePool.active().getHits() + ShoePool.active().getMisses());
+    } finally {
+      ShoePool.stop();
+    }
+    assertNull(ShoePool.active());
+  }
+}
@@ -0,0 +1,454 @@
+package com.example.casinomod.blackjack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ShoeTest {
+
+  @Test
+  void testNewShoeIsEmpty() {
+    Shoe shoe = new Shoe();
+
+    assertTrue(shoe.isEmpty());
+    assertEquals(0, shoe.remaining());
+    assertNull(shoe.peek());
+    assertThrows(IllegalStateException.class, shoe::draw);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 6, 8})
+  void testFillLoadsFullDecks(int deckCount) {
+    Shoe shoe = new Shoe();
+    shoe.fill(deckCount);
+
+    assertEquals(52 * deckCount, shoe.size());
+    assertEquals(52 * deckCount, shoe.remaining());
+    assertEquals(deckCount, shoe.getDeckCount());
+  }
+
+  @Test
+  void testFillClampsDeckCount() {
+    Shoe shoe = new Shoe();
+
+    shoe.fill(0);
+    assertEquals(1, shoe.getDeckCount());
+    assertEquals(52, shoe.remaining());
+
+    shoe.fill(20);
+    assertEquals(8, shoe.getDeckCount());
+    assertEquals(Shoe.CAPACITY, shoe.remaining());
+  }
+
+  @Test
+  void testPeekDoesNotAdvanceCursor() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+
+    Card peeked = shoe.peek();
+    assertEquals(52, shoe.remaining());
+    assertSame(peeked, shoe.draw());
+    assertEquals(51, shoe.remaining());
+  }
+
+  @Test
+  void testDrawExhaustsShoe() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+
+    for (int i = 0; i < 52; i++) {
+      assertNotNull(shoe.draw());
+    }
+
+    assertTrue(shoe.isEmpty());
+    assertThrows(IllegalStateException.class, shoe::draw);
+  }
+
+  @Test
+  void testShuffleKeepsComposition() {
+    Shoe shoe = new Shoe();
+    shoe.fill(2);
+    shoe.shuffle(new Random(42));
+
+    int[][] counts = new int[14][Suit.values().length];
+    while (!shoe.isEmpty()) {
+      Card card = shoe.draw();
+      counts[card.getValue()][card.getSuit().ordinal()]++;
+    }
+
+    for (int value = 1; value <= 13; value++) {
+      for (Suit suit : Suit.values()) {
+        assertEquals(2, counts[value][suit.ordinal()], "Expected two of " + value + " " + suit);
+      }
+    }
+  }
+
+  @Test
+  void testRefillRewindsCursor() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    for (int i = 0; i < 30; i++) {
+      shoe.draw();
+    }
+
+    shoe.fill(1);
+    assertEquals(52, shoe.remaining());
+
+    shoe.clear();
+    assertTrue(shoe.isEmpty());
+  }
+
+  @Test
+  void testGameReportsCardsRemaining() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(2);
+    assertEquals(104, game.getCardsRemaining());
+
+    game.draw();
+    assertEquals(103, game.getCardsRemaining());
+
+    game.reset();
+    assertEquals(103, game.getCardsRemaining());
+  }
+
+  @Test
+  void testCutCardPlacedAtPenetration() {
+    Shoe shoe = new Shoe();
+    shoe.setPenetration(0.75);
+    shoe.fill(2);
+
+    for (int i = 0; i < 77; i++) {
+      shoe.draw();
+    }
+    assertFalse(shoe.isPastCutCard());
+
+    shoe.draw();
+    assertTrue(shoe.isPastCutCard());
+  }
+
+  @Test
+  void testPenetrationIsClamped() {
+    Shoe shoe = new Shoe();
+
+    shoe.setPenetration(0.0);
+    assertEquals(Shoe.MIN_PENETRATION, shoe.getPenetration());
+
+    shoe.setPenetration(1.5);
+    assertEquals(Shoe.MAX_PENETRATION, shoe.getPenetration());
+  }
+
+  @Test
+  void testShoePersistsAcrossRounds() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    game.dealToPlayer();
+    game.dealToDealer();
+    game.reset();
+
+    game.startGame(1);
+    assertEquals(50, game.getCardsRemaining());
+  }
+
+  @Test
+  void testReshuffleAtCutCard() {
+    BlackjackGame game = new BlackjackGame();
+    game.setPenetration(0.5);
+    game.startGame(1);
+    for (int i = 0; i < 26; i++) {
+      game.draw();
+    }
+    assertTrue(game.isShuffleDue());
+
+    game.reset();
+    game.startGame(1);
+    assertEquals(52, game.getCardsRemaining());
+    assertFalse(game.isShuffleDue());
+  }
+
+  @Test
+  void testDeckCountChangeStartsNewShoe() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(1);
+    game.draw();
+    game.reset();
+
+    game.startGame(2);
+    assertEquals(104, game.getCardsRemaining());
+  }
+
+  @Test
+  void testRestoreContinuesFromSavedOrder() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    shoe.shuffle(new Random(7));
+    for (int i = 0; i < 10; i++) {
+      shoe.draw();
+    }
+    int[] undealt = shoe.undealtIds();
+
+    Shoe restored = new Shoe();
+    restored.restore(1, 52, undealt);
+
+    assertEquals(shoe.remaining(), restored.remaining());
+    assertEquals(shoe.dealt(), restored.dealt());
+    while (!shoe.isEmpty()) {
+      assertSame(shoe.draw(), restored.draw());
+    }
+  }
+
+  @Test
+  void testRestoreFromPackedOrder() {
+    Shoe shoe = new Shoe();
+    shoe.fill(2);
+    shoe.shuffle(31L);
+    for (int i = 0; i < 20; i++) {
+      shoe.draw();
+    }
+    byte[] order = shoe.undealtOrder();
+    assertEquals(shoe.remaining(), order.length);
+
+    Shoe restored = new Shoe();
+    restored.restore(2, 104, order, shoe.getSeed());
+
+    assertEquals(shoe.dealt(), restored.dealt());
+    assertEquals(OptionalLong.of(31L), restored.getSeed());
+    while (!shoe.isEmpty()) {
+      assertSame(shoe.draw(), restored.draw());
+    }
+  }
+
+  @Test
+  void testRestoreRejectsInvalidData() {
+    Shoe shoe = new Shoe();
+
+    assertThrows(IllegalArgumentException.class, () -> shoe.restore(0, 0, new int[0]));
+    assertThrows(IllegalArgumentException.class, () -> shoe.restore(1, 60, new int[0]));
+    assertThrows(IllegalArgumentException.class, () -> shoe.restore(1, 52, new int[] {52}));
+    assertThrows(IllegalArgumentException.class, () -> shoe.restore(1, 52, new int[] {300}));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> shoe.restore(1, 52, new byte[] {-1}, OptionalLong.empty()));
+  }
+
+  @Test
+  void testSeededShuffleIsReproducible() {
+    Shoe first = new Shoe();
+    first.fill(6);
+    first.shuffle(12345L);
+    Shoe second = new Shoe();
+    second.fill(6);
+    second.shuffle(12345L);
+
+    assertEquals(OptionalLong.of(12345L), first.getSeed());
+    while (!first.isEmpty()) {
+      assertSame(first.draw(), second.draw());
+    }
+  }
+
+  @Test
+  void testUnseededShuffleHasNoSeed() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    shoe.shuffle(7L);
+    shoe.shuffle(new Random(7));
+
+    assertTrue(shoe.getSeed().isEmpty());
+
+    shoe.fill(1);
+    assertTrue(shoe.getSeed().isEmpty());
+  }
+
+  @Test
+  void testRestoreKeepsSeed() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    shoe.shuffle(99L);
+
+    Shoe restored = new Shoe();
+    restored.restore(1, 52, shoe.undealtIds(), shoe.getSeed());
+
+    assertEquals(OptionalLong.of(99L), restored.getSeed());
+  }
+
+  @Test
+  void testSeededGamesDealIdenticalShoes() {
+    BlackjackGame first = new BlackjackGame();
+    first.setSeed(2024L);
+    first.startGame(2);
+    BlackjackGame second = new BlackjackGame();
+    second.setSeed(2024L);
+    second.startGame(2);
+
+    for (int i = 0; i < 104; i++) {
+      assertSame(first.draw(), second.draw());
+    }
+  }
+
+  @Test
+  void testShoeSeedReproducesGameOrder() {
+    BlackjackGame game = new BlackjackGame();
+    game.startGame(4);
+    long seed = game.getShoeSeed().orElseThrow();
+
+    Shoe replay = new Shoe();
+    replay.fill(4);
+    replay.shuffle(seed);
+    for (int i = 0; i < 4 * 52; i++) {
+      assertSame(replay.draw(), game.draw());
+    }
+  }
+
+  @Test
+  void testResumedSeedCarriesOnFromCurrentShoe() {
+    BlackjackGame first = new BlackjackGame();
+    BlackjackGame second = new BlackjackGame();
+    for (BlackjackGame game : List.of(first, second)) {
+      game.setSeed(5L);
+      game.startGame(1);
+      game.reset();
+      // As after a reload, which keeps the shoe but not the generator
+      game.resumeSeed(5L);
+    }
+    assertTrue(first.isSeeded());
+    // A new deck count brings out a fresh shoe
+    first.startGame(2);
+    second.startGame(2);
+    assertEquals(first.getShoeSeed(), second.getShoeSeed());
+
+    BlackjackGame restarted = new BlackjackGame();
+    restarted.setSeed(5L);
+    restarted.startGame(2);
+    assertNotEquals(restarted.getShoeSeed(), first.getShoeSeed());
+
+    first.clearSeed();
+    assertFalse(first.isSeeded());
+  }
+
+  @Test
+  void testSeededGameBypassesPool() {
+    ShoePool.start();
+    try {
+      BlackjackGame game = new BlackjackGame();
+      game.setSeed(1L);
+      game.startGame(1);
+
+      assertEquals(0, ShoePool.active().getHits() + ShoePool.active().getMisses());
+    } finally {
+      ShoePool.stop();
+    }
+  }
+
+  private static int hiLo(Card card) {
+    int rank = card.getValue();
+    return rank >= 2 && rank <= 6 ? 1 : rank == 1 || rank >= 10 ? -1 : 0;
+  }
+
+  @Test
+  void testCountsTrackEveryDraw() {
+    Shoe shoe = new Shoe();
+    shoe.fill(2);
+    shoe.shuffle(5L);
+    assertEquals(0, shoe.getRunningCount());
+    assertEquals(8, shoe.remainingOfRank(1));
+
+    int[] dealtByRank = new int[14];
+    int count = 0;
+    while (!shoe.isEmpty()) {
+      Card card = shoe.draw();
+      dealtByRank[card.getValue()]++;
+      count += hiLo(card);
+
+      assertEquals(count, shoe.getRunningCount());
+      for (int rank = 1; rank <= 13; rank++) {
+        assertEquals(8 - dealtByRank[rank], shoe.remainingOfRank(rank));
+      }
+    }
+    // A whole shoe counts back to zero
+    assertEquals(0, shoe.getRunningCount());
+    assertEquals(0.0, shoe.getTrueCount());
+  }
+
+  @Test
+  void testCompositionMatchesUndealtCards() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    shoe.shuffle(11L);
+    for (int i = 0; i < 20; i++) {
+      shoe.draw();
+    }
+
+    int[] expected = new int[11];
+    for (int id : shoe.undealtIds()) {
+      expected[Card.byId(id).getBlackjackValue()]++;
+    }
+    assertArrayEquals(expected, shoe.composition());
+  }
+
+  @Test
+  void testTrueCountIsPerDeckRemaining() {
+    Shoe shoe = new Shoe();
+    shoe.fill(2);
+    shoe.shuffle(3L);
+    for (int i = 0; i < 52; i++) {
+      shoe.draw();
+    }
+
+    assertEquals(shoe.getRunningCount(), shoe.getTrueCount(), 1e-9);
+  }
+
+  @Test
+  void testRestoreRecountsDealtCards() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    shoe.shuffle(17L);
+    for (int i = 0; i < 15; i++) {
+      shoe.draw();
+    }
+
+    Shoe restored = new Shoe();
+    restored.restore(1, 52, shoe.undealtOrder(), shoe.getSeed());
+
+    assertEquals(shoe.getRunningCount(), restored.getRunningCount());
+    for (int rank = 1; rank <= 13; rank++) {
+      assertEquals(shoe.remainingOfRank(rank), restored.remainingOfRank(rank));
+    }
+  }
+
+  @Test
+  void testRefillAndClearResetCounts() {
+    Shoe shoe = new Shoe();
+    shoe.fill(1);
+    for (int i = 0; i < 5; i++) {
+      shoe.draw();
+    }
+    assertNotEquals(0, shoe.getRunningCount());
+
+    shoe.fill(1);
+    assertEquals(0, shoe.getRunningCount());
+    assertEquals(4, shoe.remainingOfRank(13));
+
+    shoe.clear();
+    assertEquals(0, shoe.remainingOfRank(13));
+    assertThrows(IllegalArgumentException.class, () -> shoe.remainingOfRank(0));
+  }
+
+  @Test
+  void testGameReportsRunningCount() {
+    BlackjackGame game = new BlackjackGame();
+    game.setSeed(8L);
+    game.startGame(1);
+    int count = 0;
+    for (int i = 0; i < 10; i++) {
+      count += hiLo(game.draw());
+    }
+
+    assertEquals(count, game.getRunningCount());
+    assertEquals(count * 52.0 / 42, game.getTrueCount(), 1e-9);
+  }
+}
@@ -2,6 +2,8 @@ package com.example.casinomod.blackjack;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -20,8 +22,7 @@ class SplitPairsTest {
   @Test
   void testCanSplitWithMatchingPair() {
     // Set up a pair of 8s
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(8, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(8, Suit.SPADES));
 
@@ -31,8 +32,7 @@ class SplitPairsTest {
   @Test
   void testCannotSplitWithDifferentCards() {
     // Set up non-matching cards
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(8, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(7, Suit.SPADES));
 
@@ -42,8 +42,7 @@ class SplitPairsTest {
   @Test
   void testCannotSplitWithThreeCards() {
     // Set up hand with 3 cards
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(8, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(8, Suit.SPADES));
     game.getPlayerHandDirect(0).add(new Card(5, Suit.CLUBS));
@@ -54,8 +53,7 @@ class SplitPairsTest {
   @Test
   void testCannotSplitWhenNotPlayerTurn() {
     // Set up a pair but wrong phase
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(8, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(8, Suit.SPADES));
     game.setPhase(BlackjackGame.GamePhase.DEALER_TURN);
@@ -66,14 +64,14 @@ class SplitPairsTest {
   @Test
   void testCannotSplitAfterAlreadySplit() {
     // Set up initial pair and split
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(8, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(8, Suit.SPADES));
+    game.setMaxHands(2);
 
     game.splitPairs();
 
-    // Can no longer split
+    // Can no longer split once the table limit is reached
     assertFalse(game.canSplit());
     assertTrue(game.hasSplit());
   }
@@ -81,8 +79,7 @@ class SplitPairsTest {
   @Test
   void testSplitPairsCreatesTransactions() {
     // Set up a pair of Kings
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(13, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(13, Suit.CLUBS));
 
@@ -115,8 +112,7 @@ class SplitPairsTest {
   })
   void testSplitPairsWithDifferentRanks(int rank1, int rank2) {
     // Set up matching pair
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(rank1, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(rank2, Suit.SPADES));
 
@@ -133,8 +129,7 @@ class SplitPairsTest {
   @Test
   void testSplitPairsGameFlow() {
     // Set up a pair of 2s (low cards to avoid busting when hit)
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(2, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(2, Suit.DIAMONDS));
 
@@ -167,8 +162,7 @@ class SplitPairsTest {
   @Test
   void testSplitPairsHandProgression() {
     // Set up a pair
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(6, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(6, Suit.SPADES));
 
@@ -188,8 +182,7 @@ class SplitPairsTest {
   @Test
   void testSplitPairsDoubleDown() {
     // Set up a pair suitable for double down
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(5, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(5, Suit.SPADES));
 
@@ -210,8 +203,7 @@ class SplitPairsTest {
   @Test
   void testSplitPairsResultEvaluation() {
     // Set up a pair
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(9, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(9, Suit.SPADES));
 
@@ -240,8 +232,7 @@ class SplitPairsTest {
   @Test
   void testSplitPairsBlackjackNoLongerBlackjack() {
     // Set up Ace pair (would be blackjack but not after split)
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(1, Suit.HEARTS)); // Ace
     game.getPlayerHandDirect(0).add(new Card(1, Suit.SPADES)); // Ace
 
@@ -259,8 +250,7 @@ class SplitPairsTest {
   @Test
   void testSplitPairsReset() {
     // Set up and perform split
-    game.getAllPlayerHandsDirect().clear();
-    game.getAllPlayerHandsDirect().add(new java.util.ArrayList<>());
+    game.getSeat(0).reset(true);
     game.getPlayerHandDirect(0).add(new Card(10, Suit.HEARTS));
     game.getPlayerHandDirect(0).add(new Card(10, Suit.SPADES));
 
@@ -274,4 +264,153 @@ class SplitPairsTest {
     assertEquals(0, game.getHandCount());
     assertEquals(0, game.getCurrentHandIndex());
   }
+
+  @Test
+  void testResplitUpToMaxHands() {
+    game.getSeat(0).reset(true);
+    game.getPlayerHandDirect(0).add(new Card(8, Suit.HEARTS));
+    game.getPlayerHandDirect(0).add(new Card(8, Suit.SPADES));
+
+    for (int hands = 2; hands <= Seat.MAX_HANDS; hands++) {
+      game.splitPairs();
+      assertEquals(hands, game.getHandCount());
+      // Pair the current hand up again so it can be re-split
+      game.getPlayerHandDirect(0).set(1, new Card(8, Suit.CLUBS));
+    }
+
+    assertFalse(game.canSplit());
+    assertEquals(0, game.getCurrentHandIndex());
+    for (int i = 0; i < Seat.MAX_HANDS; i++) {
+      assertEquals(8, game.getPlayerHand(i).get(0).getValue());
+      assertEquals(2, game.getPlayerHand(i).size());
+    }
+  }
+
+  @Test
+  void testResplitInsertsAfterCurrentHand() {
+    game.getSeat(0).reset(true);
+    game.getPlayerHandDirect(0).add(new Card(9, Suit.HEARTS));
+    game.getPlayerHandDirect(0).add(new Card(9, Suit.SPADES));
+    game.splitPairs();
+    game.getPlayerHandDirect(0).set(1, new Card(10, Suit.CLUBS));
+    game.getPlayerHandDirect(1).set(1, new Card(9, Suit.CLUBS));
+    game.stand();
+
+    assertTrue(game.canSplit());
+    game.splitPairs();
+
+    // The new hand goes right after the one being split and is played next
+    assertEquals(3, game.getHandCount());
+    assertEquals(1, game.getCurrentHandIndex());
+    assertEquals(19, game.getHandValue(game.getPlayerHand(0)));
+    assertEquals(Card.of(9, Suit.SPADES), game.getPlayerHand(1).get(0));
+    assertEquals(Card.of(9, Suit.CLUBS), game.getPlayerHand(2).get(0));
+  }
+
+  @Test
+  void testSplitHandsReusePreallocatedStates() {
+    game.getSeat(0).reset(true);
+    game.getPlayerHandDirect(0).add(new Card(7, Suit.HEARTS));
+    game.getPlayerHandDirect(0).add(new Card(7, Suit.SPADES));
+    game.splitPairs();
+    HandState second = game.getPlayerHandDirect(1);
+
+    game.reset();
+    game.startGame();
+    game.dealToPlayer();
+    game.dealToPlayer();
+    if (!game.canSplit()) {
+      game.getPlayerHandDirect(0).set(1, game.getPlayerHandDirect(0).get(0));
+    }
+    game.splitPairs();
+
+    assertSame(second, game.getPlayerHandDirect(1));
+  }
+
+  @Test
+  void testSplitAcesGetOneCardEach() {
+    game.getSeat(0).reset(true);
+    game.getPlayerHandDirect(0).add(new Card(1, Suit.HEARTS));
+    game.getPlayerHandDirect(0).add(new Card(1, Suit.SPADES));
+    game.setResplitAces(false);
+
+    game.splitPairs();
+
+    // Neither ace can be played on, so the seat is done
+    assertTrue(game.getSeat(0).hasSplitAces());
+    assertEquals(BlackjackGame.GamePhase.DEALER_TURN, game.getPhase());
+    assertEquals(2, game.getPlayerHand(0).size());
+    assertEquals(2, game.getPlayerHand(1).size());
+  }
+
+  @Test
+  void testResplitAcesRule() {
+    game.getSeat(0).reset(true);
+    game.getPlayerHandDirect(0).add(new Card(1, Suit.HEARTS));
+    game.getPlayerHandDirect(0).add(new Card(1, Suit.SPADES));
+    // Allow hitting so play stays on the first ace while the pair is set up
+    game.setHitSplitAces(true);
+    game.splitPairs();
+    game.getPlayerHandDirect(0).set(1, new Card(1, Suit.CLUBS));
+
+    game.setResplitAces(false);
+    assertFalse(game.canSplit());
+    game.setResplitAces(true);
+    assertTrue(game.canSplit());
+  }
+
+  @Test
+  void testSplitAcesCannotBeHitOrDoubled() {
+    game.getSeat(0).reset(true);
+    game.getPlayerHandDirect(0).add(new Card(1, Suit.HEARTS));
+    game.getPlayerHandDirect(0).add(new Card(1, Suit.SPADES));
+    game.setHitSplitAces(true);
+    game.splitPairs();
+    game.getPlayerHandDirect(0).set(1, new Card(5, Suit.CLUBS));
+    assertTrue(game.canDoubleDown());
+
+    game.setHitSplitAces(false);
+    assertFalse(game.canDoubleDown());
+    game.hitPlayer();
+    assertEquals(2, game.getPlayerHand(0).size());
+  }
+
+  @Test
+  void testMaxHandsOfOneDisablesSplitting() {
+    game.getSeat(0).reset(true);
+    game.getPlayerHandDirect(0).add(new Card(8, Suit.HEARTS));
+    game.getPlayerHandDirect(0).add(new Card(8, Suit.SPADES));
+
+    game.setMaxHands(1);
+    assertFalse(game.canSplit());
+    game.setMaxHands(99);
+    assertEquals(Seat.MAX_HANDS, game.getMaxHands());
+  }
+
+  @Test
+  void testPerHandWagers() {
+    game.getSeat(0).reset(true);
+    game.getPlayerHandDirect(0).add(new Card(5, Suit.HEARTS));
+    game.getPlayerHandDirect(0).add(new Card(5, Suit.SPADES));
+    Seat seat = game.getSeat(0);
+    assertEquals(1, seat.getTotalWager());
+
+    game.splitPairs();
+    game.doubleDown();
+
+    assertEquals(2, seat.getHandWager(0));
+    assertEquals(1, seat.getHandWager(1));
+    assertEquals(3, seat.getTotalWager());
+    assertEquals(0, seat.getHandWager(2));
+  }
+
+  @Test
+  void testSeatHandListIsReadOnly() {
+    // Hands come only from the seat's own pool, so outside instances cannot get in
+    List<HandState> hands = game.getAllPlayerHandsDirect();
+    assertThrows(UnsupportedOperationException.class, () -> hands.add(new HandState()));
+    assertThrows(UnsupportedOperationException.class, () -> hands.set(0, new HandState()));
+    assertThrows(UnsupportedOperationException.class, () -> hands.remove(0));
+    assertThrows(UnsupportedOperationException.class, hands::clear);
+  }
 }
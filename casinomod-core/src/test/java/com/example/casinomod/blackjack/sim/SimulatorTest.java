@@ -0,0 +1,124 @@
+package com.example.casinomod.blackjack.sim;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.example.casinomod.blackjack.PlayerAction;
+
+import org.junit.jupiter.api.Test;
+
+class SimulatorTest {
+
+  private static long totalOutcomes(SimulationResult result) {
+    long total = 0;
+    for (int halfBets = -SimulationResult.MAX_OUTCOME;
+        halfBets <= SimulationResult.MAX_OUTCOME;
+        halfBets++) {
+      total += result.getOutcomeCount(halfBets);
+    }
+    return total;
+  }
+
+  @Test
+  void testPlaysRequestedRounds() {
+    SimulationResult result =
+        new Simulator(TableRules.of(6, false), Strategy.simple()).run(50_000, 1L);
+
+    assertEquals(50_000, result.getRounds());
+    assertTrue(result.getHands() >= result.getRounds());
+    assertTrue(result.getTotalWagered() >= result.getRounds());
+    assertEquals(result.getRounds(), totalOutcomes(result));
+  }
+
+  @Test
+  void testSameSeedGivesSameResult() {
+    Simulator simulator = new Simulator(TableRules.of(2, true), Strategy.simple());
+
+    SimulationResult first = simulator.run(60_000, 42L);
+    SimulationResult second = simulator.run(60_000, 42L);
+
+    assertEquals(first.getNet(), second.getNet());
+    assertEquals(first.getHands(), second.getHands());
+    assertEquals(first.getVariance(), second.getVariance());
+  }
+
+  @Test
+  void testResultDoesNotDependOnParallelism() {
+    TableRules rules = TableRules.of(6, false);
+    ForkJoinPool single = new ForkJoinPool(1);
+    try {
+      SimulationResult parallel = new Simulator(rules, Strategy.simple()).run(80_000, 7L);
+      SimulationResult sequential = new Simulator(rules, Strategy.simple(), single).run(80_000, 7L);
+
+      assertEquals(parallel.getNet(), sequential.getNet());
+    } finally {
+      single.shutdown();
+    }
+  }
+
+  @Test
+  void testHouseEdgeIsPlausible() {
+    SimulationResult result =
+        new Simulator(TableRules.of(6, false), Strategy.simple()).run(200_000, 2024L);
+
+    // Close-to-basic play loses a few percent at most; never-bust play loses far more
+    assertTrue(result.getHouseEdge() > -0.02, "Edge " + result.getHouseEdge());
+    assertTrue(result.getHouseEdge() < 0.05, "Edge " + result.getHouseEdge());
+    assertTrue(result.getStandardDeviation() > 0.9 && result.getStandardDeviation() < 1.5);
+    assertTrue(result.getStandardError() < 0.01);
+  }
+
+  @Test
+  void testBasicStrategyEdgeIsPlausible() {
+    TableRules rules = TableRules.of(6, false);
+    SimulationResult result = new Simulator(rules, Strategy.basic(rules)).run(200_000, 2024L);
+
+    assertTrue(result.getHouseEdge() > -0.02, "Edge " + result.getHouseEdge());
+    assertTrue(result.getHouseEdge() < 0.04, "Edge " + result.getHouseEdge());
+  }
+
+  @Test
+  void testAlwaysStandingCostsMore() {
+    TableRules rules = TableRules.of(6, false);
+    SimulationResult simple = new Simulator(rules, Strategy.simple()).run(100_000, 3L);
+    SimulationResult stand =
+        new Simulator(rules, (hand, up, canDouble, canSplit) -> PlayerAction.STAND)
+            .run(100_000, 3L);
+
+    assertTrue(stand.getHouseEdge() > simple.getHouseEdge() + 0.05);
+    assertEquals(stand.getRounds(), stand.getHands());
+  }
+
+  @Test
+  void testDisabledActionsAreNeverTaken() {
+    TableRules rules = new TableRules(1, false, false, false, 0.75);
+    SimulationResult result =
+        new Simulator(rules, (hand, up, canDouble, canSplit) -> PlayerAction.DOUBLE)
+            .run(20_000, 5L);
+
+    // No doubles or splits: every round is one hand with a single bet at stake
+    assertEquals(result.getRounds(), result.getHands());
+    assertEquals(result.getRounds(), result.getTotalWagered());
+    assertEquals(0, result.getOutcomeCount(-4));
+    assertEquals(0, result.getOutcomeCount(4));
+  }
+
+  @Test
+  void testDoubleAndSplitRaiseStakes() {
+    SimulationResult result =
+        new Simulator(TableRules.of(1, false), Strategy.simple()).run(50_000, 9L);
+
+    assertTrue(result.getTotalWagered() > result.getRounds());
+    assertTrue(result.getHands() > result.getRounds());
+    assertTrue(result.getOutcomeCount(3) > 0, "Blackjacks pay 3:2");
+  }
+
+  @Test
+  void testRejectsInvalidRules() {
+    assertThrows(IllegalArgumentException.class, () -> TableRules.of(0, false));
+    assertThrows(IllegalArgumentException.class, () -> new TableRules(6, false, true, true, 1.0));
+    Simulator simulator = new Simulator(TableRules.of(1, false), Strategy.simple());
+    assertThrows(IllegalArgumentException.class, () -> simulator.run(0, 1L));
+  }
+}
@@ -0,0 +1,131 @@
+package com.example.casinomod.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/** In-memory {@link StateOutput} that can be read straight back through {@link #input()}. */
+public final class MapState implements StateOutput {
+  private final Map<String, Object> values = new LinkedHashMap<>();
+
+  public boolean has(String key) {
+    return values.containsKey(key);
+  }
+
+  public StateInput input() {
+    return new Input();
+  }
+
+  @Override
+  public void putString(String key, String value) {
+    values.put(key, value);
+  }
+
+  @Override
+  public void putInt(String key, int value) {
+    values.put(key, value);
+  }
+
+  @Override
+  public void putLong(String key, long value) {
+    values.put(key, value);
+  }
+
+  @Override
+  public void putBoolean(String key, boolean value) {
+    values.put(key, value);
+  }
+
+  @Override
+  public void putDouble(String key, double value) {
+    values.put(key, value);
+  }
+
+  @Override
+  public void putIntArray(String key, int[] value) {
+    values.put(key, value.clone());
+  }
+
+  @Override
+  public void putByteArray(String key, byte[] value, int offset, int length) {
+    values.put(key, Arrays.copyOfRange(value, offset, offset + length));
+  }
+
+  @Override
+  public MapState child(String key) {
+    MapState child = new MapState();
+    values.put(key, child);
+    return child;
+  }
+
+  @Override
+  public ChildList childrenList(String key) {
+    List<MapState> list = new ArrayList<>();
+    values.put(key, list);
+    return () -> {
+      MapState child = new MapState();
+      list.add(child);
+      return child;
+    };
+  }
+
+  private final class Input implements StateInput {
+    @Override
+    public Optional<String> getString(String key) {
+      return values.get(key) instanceof String s ? Optional.of(s) : Optional.empty();
+    }
+
+    @Override
+    public int getIntOr(String key, int defaultValue) {
+      return values.get(key) instanceof Integer i ? i : defaultValue;
+    }
+
+    @Override
+    public OptionalLong getLong(String key) {
+      return values.get(key) instanceof Long l ? OptionalLong.of(l) : OptionalLong.empty();
+    }
+
+    @Override
+    public boolean getBooleanOr(String key, boolean defaultValue) {
+      return values.get(key) instanceof Boolean b ? b : defaultValue;
+    }
+
+    @Override
+    public double getDoubleOr(String key, double defaultValue) {
+      return values.get(key) instanceof Double d ? d : defaultValue;
+    }
+
+    @Override
+    public Optional<int[]> getIntArray(String key) {
+      return values.get(key) instanceof int[] a ? Optional.of(a.clone()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<byte[]> getByteArray(String key) {
+      return values.get(key) instanceof byte[] a ? Optional.of(a.clone()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<StateInput> child(String key) {
+      return values.get(key) instanceof MapState child
+          ? Optional.of(child.input())
+          : Optional.empty();
+    }
+
+    @Override
+    public Optional<Iterable<StateInput>> childrenList(String key) {
+      if (!(values.get(key) instanceof List<?> list)) {
+        return Optional.empty();
+      }
+      List<StateInput> inputs = new ArrayList<>();
+      for (Object child : list) {
+        inputs.add(((MapState) child).input());
+      }
+      return Optional.of(inputs);
+    }
+  }
+}
@@ -1,7 +1,9 @@
 package com.example.casinomod;
 
+import com.example.casinomod.blackjack.ShoePool;
 import com.example.casinomod.block.ModBlocks;
 import com.example.casinomod.block.entity.ModBlockEntities;
+import com.example.casinomod.command.CasinoCommands;
 import com.example.casinomod.item.ModItems;
 import com.example.casinomod.network.ModMessages;
 import com.example.casinomod.screen.ModMenuTypes;
@@ -27,7 +29,9 @@ import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.neoforged.neoforge.client.event.RegisterMenuScreensEvent;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.BuildCreativeModeTabContentsEvent;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import net.neoforged.neoforge.event.server.ServerStoppedEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.neoforge.registries.DeferredRegister;
 
@@ -114,7 +118,25 @@ public class CasinoMod {
 
   // You can use SubscribeEvent and let the Event Bus discover methods to call
   @SubscribeEvent
-  public void onServerStarting(ServerStartingEvent event) {}
+  public void onServerStarting(ServerStartingEvent event) {
+    ShoePool.start();
+  }
+
+  @SubscribeEvent
+  public void onRegisterCommands(RegisterCommandsEvent event) {
+    CasinoCommands.register(event.getDispatcher());
+  }
+
+  @SubscribeEvent
+  public void onServerTick(ServerTickEvent.Post event) {
+    ServerTaskScheduler.logStatsIfDue(event.getServer().getTickCount());
+  }
+
+  @SubscribeEvent
+  public void onServerStopped(ServerStoppedEvent event) {
+    ShoePool.stop();
+    ServerTaskScheduler.clear();
+  }
 
   @EventBusSubscriber(modid = MODID, value = Dist.CLIENT)
   public static class ClientModEvents {
@@ -127,10 +149,5 @@ public class CasinoMod {
     public static void registerScreens(RegisterMenuScreensEvent event) {
       event.register(ModMenuTypes.DEALER_MENU.get(), DealerScreen::new);
     }
-
-    @SubscribeEvent
-    public static void onServerTick(ServerTickEvent.Post event) {
-      ServerTaskScheduler.tick(event.getServer().getTickCount());
-    }
   }
 }
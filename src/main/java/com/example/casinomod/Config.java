@@ -37,6 +37,52 @@ public class Config {
               "Whether the dealer hits on Soft 17 (Ace counted as 11). True = dealer hits, False = dealer stands")
           .define("dealerHitsSoft17", false);
 
+  public static final ModConfigSpec.DoubleValue SHOE_PENETRATION =
+      BUILDER
+          .comment(
+              "Fraction of the shoe dealt before the cut card comes out and the shoe is reshuffled")
+          .defineInRange("shoePenetration", 0.75, 0.25, 0.95);
+
+  public static final ModConfigSpec.BooleanValue SHOW_STRATEGY_HINTS =
+      BUILDER
+          .comment("Whether the dealer screen shows the basic-strategy action for the current hand")
+          .define("showStrategyHints", false);
+
+  public static final ModConfigSpec.IntValue MAX_SPLIT_HANDS =
+      BUILDER
+          .comment("Most hands a player can split into by re-splitting pairs; 1 disables splitting")
+          .defineInRange("maxSplitHands", 4, 1, 4);
+
+  public static final ModConfigSpec.BooleanValue RESPLIT_ACES =
+      BUILDER
+          .comment("Whether split aces that draw another ace may be split again")
+          .define("resplitAces", false);
+
+  public static final ModConfigSpec.BooleanValue HIT_SPLIT_ACES =
+      BUILDER
+          .comment("Whether split aces can be hit. False = each split ace gets exactly one card")
+          .define("hitSplitAces", false);
+
+  // Scheduler budget for table steps (dealing, reveals, resets)
+  public static final ModConfigSpec.IntValue SCHEDULER_TASKS_PER_TICK =
+      BUILDER
+          .comment("Most table steps run in one server tick; the rest wait for the next")
+          .defineInRange("schedulerTasksPerTick", 256, 1, 100_000);
+
+  public static final ModConfigSpec.IntValue SCHEDULER_MICROS_PER_TICK =
+      BUILDER
+          .comment(
+              "Time in microseconds table steps may take per server tick before the rest"
+                  + " wait for the next")
+          .defineInRange("schedulerMicrosPerTick", 2_000, 100, 50_000);
+
+  public static final ModConfigSpec.IntValue SCHEDULER_STATS_INTERVAL =
+      BUILDER
+          .comment(
+              "Ticks between scheduler stats in the debug log; 0 turns them off. Also shown by"
+                  + " /casino stats scheduler")
+          .defineInRange("schedulerStatsInterval", 6_000, 0, 1_728_000);
+
   static final ModConfigSpec SPEC = BUILDER.build();
 
   private static boolean validateItemName(final Object obj) {
@@ -1,12 +1,18 @@
 package com.example.casinomod.blackjack.handler;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.UUID;
+
+import javax.annotation.Nullable;
 
 import com.example.casinomod.CasinoMod;
+import com.example.casinomod.Config;
 import com.example.casinomod.blackjack.BlackjackGame;
+import com.example.casinomod.blackjack.DealerTimeline;
+import com.example.casinomod.blackjack.GameRecord;
+import com.example.casinomod.blackjack.Seat;
 import com.example.casinomod.block.custom.DealerBlockEntity;
-import com.example.casinomod.util.ServerTaskScheduler;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleOptions;
@@ -24,227 +30,274 @@ public class BlackjackHandler {
 
   // ─────────────── Start Game With Suspense ───────────────
 
+  /**
+   * Starts a round for every seated player with a wager. The table's ticker then deals the cards
+   * one at a time; see {@link #runTableStep}.
+   */
   public static void startGameWithDelay(
-      ServerPlayer player,
-      Level level,
-      BlockPos pos,
-      DealerBlockEntity dealerBe,
-      BlackjackGame game) {
+      Level level, BlockPos pos, DealerBlockEntity dealerBe, BlackjackGame game) {
     if (!(level instanceof ServerLevel serverLevel)) return;
 
-    game.startGame(dealerBe.getNumberOfDecks()); // Shuffle and reset with specified number of decks
-    dealerBe.startAuditRecord();
-
-    List<Runnable> drawSteps =
-        List.of(
-            () -> dealPlayerCard(game, "Player (1st)", level, pos, dealerBe),
-            () -> dealDealerCard(game, "Dealer (1st)", level, pos, dealerBe),
-            () -> dealPlayerCard(game, "Player (2nd)", level, pos, dealerBe),
-            () -> dealDealerCard(game, "Dealer (2nd)", level, pos, dealerBe),
-            () -> {
-              // Check for dealer blackjack after all initial cards are dealt
-              if (game.isDealerBlackjack()) {
-                CasinoMod.LOGGER.debug("[BlackjackHandler] Dealer has blackjack!");
-                game.setPhase(BlackjackGame.GamePhase.FINISHED);
-                BlackjackGame.Result result = game.determineResult();
-                handleResult(result, player, level, pos, dealerBe, game);
-              } else {
-                game.setPhase(BlackjackGame.GamePhase.PLAYER_TURN);
-                CasinoMod.LOGGER.debug("[BlackjackHandler] All cards dealt. Player turn begins.");
-              }
-            });
-
-    scheduleDrawSteps(drawSteps, serverLevel, 0);
-  }
+    int[] seats = dealerBe.getSeatsWithWagers();
+    if (seats.length == 0) return;
+    for (int seat : seats) {
+      // Keep the wager visible in its slot during the game; it is settled at the end
+      dealerBe.setLastWager(seat, dealerBe.inventory.getStackInSlot(seat));
+    }
 
-  private static void dealPlayerCard(
-      BlackjackGame game, String who, Level level, BlockPos pos, DealerBlockEntity dealerBe) {
-    game.dealToPlayer();
-    CasinoMod.LOGGER.debug("[BlackjackHandler] {} draws (player)", who);
-    updateBlock(level, pos, dealerBe);
+    game.setPenetration(Config.SHOE_PENETRATION.get());
+    game.setMaxHands(Config.MAX_SPLIT_HANDS.get());
+    game.setResplitAces(Config.RESPLIT_ACES.get());
+    game.setHitSplitAces(Config.HIT_SPLIT_ACES.get());
+    // Reuses the shoe until the cut card is reached
+    game.startGame(dealerBe.getNumberOfDecks(), seats);
+    dealerBe.startAuditRecord();
+    dealerBe.startDeal(serverLevel.getGameTime());
   }
 
-  private static void dealDealerCard(
-      BlackjackGame game, String who, Level level, BlockPos pos, DealerBlockEntity dealerBe) {
-    game.dealToDealer();
-    CasinoMod.LOGGER.debug("[BlackjackHandler] {} draws (dealer)", who);
-    updateBlock(level, pos, dealerBe);
+  // ─────────────── Table Steps ───────────────
+
+  private static final int DEAL_STEP_TICKS = 10;
+  private static final int REVEAL_STEP_TICKS = 20;
+  private static final int RESET_DELAY_TICKS = 60;
+
+  /**
+   * Runs the table's next step once its tick has come, from the dealer block's ticker. Each step
+   * schedules the one after it on the table itself, so a round in progress costs no allocation per
+   * step and carries on after the chunk is saved and loaded again.
+   */
+  public static void runTableStep(ServerLevel level, BlockPos pos, DealerBlockEntity dealerBe) {
+    BlackjackGame game = dealerBe.getGame();
+    switch (dealerBe.getTableStep()) {
+      case DEALING -> dealNextCard(level, pos, dealerBe, game);
+      case REVEALING -> revealNextDraw(level, pos, dealerBe);
+      case RESETTING -> {
+        dealerBe.setTableStep(DealerBlockEntity.TableStep.IDLE, 0);
+        game.reset();
+        updateBlock(level, pos, dealerBe);
+        CasinoMod.LOGGER.debug("[BlackjackHandler] Game reset after handling results.");
+      }
+      case IDLE -> {}
+    }
   }
 
-  private static void scheduleDrawSteps(List<Runnable> steps, ServerLevel serverLevel, int index) {
-    if (index >= steps.size()) return;
+  /**
+   * Deals the next card of the opening deal. Cards go round the table twice, one per seat and then
+   * the dealer, as they would from a real shoe; the step after the last card checks for a dealer
+   * blackjack.
+   */
+  private static void dealNextCard(
+      ServerLevel level, BlockPos pos, DealerBlockEntity dealerBe, BlackjackGame game) {
+    int[] seats = game.getSeatsInPlay();
+    int perPass = seats.length + 1;
+    int index = dealerBe.nextDealIndex();
+
+    if (index < 2 * perPass) {
+      String pass = index < perPass ? "1st" : "2nd";
+      int turn = index % perPass;
+      if (turn < seats.length) {
+        game.dealToSeat(seats[turn]);
+        CasinoMod.LOGGER.debug("[BlackjackHandler] Seat {} ({}) draws (player)", seats[turn], pass);
+      } else {
+        game.dealToDealer();
+        CasinoMod.LOGGER.debug("[BlackjackHandler] Dealer ({}) draws (dealer)", pass);
+      }
+      dealerBe.setTableStep(
+          DealerBlockEntity.TableStep.DEALING, level.getGameTime() + DEAL_STEP_TICKS);
+      updateBlock(level, pos, dealerBe);
+      return;
+    }
 
-    steps.get(index).run();
-    ServerTaskScheduler.schedule(
-        serverLevel.getServer(), () -> scheduleDrawSteps(steps, serverLevel, index + 1), 10);
+    // Check for dealer blackjack after all initial cards are dealt
+    dealerBe.setTableStep(DealerBlockEntity.TableStep.IDLE, 0);
+    if (game.isDealerBlackjack()) {
+      CasinoMod.LOGGER.debug("[BlackjackHandler] Dealer has blackjack!");
+      game.setPhase(BlackjackGame.GamePhase.FINISHED);
+      settleRound(level, pos, dealerBe, game);
+    } else {
+      game.setPhase(BlackjackGame.GamePhase.PLAYER_TURN);
+      CasinoMod.LOGGER.debug(
+          "[BlackjackHandler] All cards dealt. Seat {} to act.", game.getActiveSeatIndex());
+    }
+    updateBlock(level, pos, dealerBe);
   }
 
   // ─────────────── Dealer AI Turn ───────────────
 
+  /**
+   * Plays the dealer's hand once for the whole table and settles every seat straight away, then
+   * reveals the dealer's draws one per second before announcing the results.
+   */
   public static void simulateDealerTurn(
-      ServerPlayer player,
-      Level level,
-      BlockPos pos,
-      DealerBlockEntity dealerBe,
-      BlackjackGame game) {
+      Level level, BlockPos pos, DealerBlockEntity dealerBe, BlackjackGame game) {
 
     if (!(level instanceof ServerLevel serverLevel)) return;
 
-    ServerTaskScheduler.schedule(
-        serverLevel.getServer(),
-        () -> {
-          updateBlock(level, pos, dealerBe);
-          CasinoMod.LOGGER.debug("[DealerTurn] Hole card revealed.");
+    DealerTimeline timeline = game.playDealerTurn(dealerBe.isDealerHitsSoft17());
+    // Wagers and audit records are committed with the outcome, not when the reveal catches up
+    List<Settlement> settlements = commitPayouts(level, pos, dealerBe, game);
+    dealerBe.startReveal(timeline, settlements, serverLevel.getGameTime() + REVEAL_STEP_TICKS);
+    updateBlock(level, pos, dealerBe);
+  }
 
-          runDealerDrawLoop(player, level, pos, dealerBe, game, serverLevel);
-        },
-        20);
+  /**
+   * Shows the table one more step of the dealer turn, and once the whole turn has been shown
+   * announces the results.
+   */
+  private static void revealNextDraw(ServerLevel level, BlockPos pos, DealerBlockEntity dealerBe) {
+    if (dealerBe.advanceReveal()) {
+      dealerBe.setTableStep(
+          DealerBlockEntity.TableStep.REVEALING, level.getGameTime() + REVEAL_STEP_TICKS);
+      updateBlock(level, pos, dealerBe);
+      return;
+    }
+    updateBlock(level, pos, dealerBe);
+    CasinoMod.LOGGER.debug("[DealerTurn] Dealer turn revealed.");
+    announceResults(level, pos, dealerBe, dealerBe.takeRevealedResults());
+    scheduleReset(level, dealerBe);
   }
 
-  private static void runDealerDrawLoop(
-      ServerPlayer player,
-      Level level,
-      BlockPos pos,
-      DealerBlockEntity dealerBe,
-      BlackjackGame game,
-      ServerLevel serverLevel) {
+  // ─────────────── Results + Rewards ───────────────
 
-    boolean dealerContinues = game.hitDealer(dealerBe.isDealerHitsSoft17());
-    updateBlock(level, pos, dealerBe);
+  /** Settles a round that ended without a dealer turn to reveal, announcing results at once. */
+  private static void settleRound(
+      ServerLevel level, BlockPos pos, DealerBlockEntity dealerBe, BlackjackGame game) {
+    announceResults(level, pos, dealerBe, commitPayouts(level, pos, dealerBe, game));
+    scheduleReset(level, dealerBe);
+  }
 
-    if (dealerContinues) {
-      ServerTaskScheduler.schedule(
-          serverLevel.getServer(),
-          () -> runDealerDrawLoop(player, level, pos, dealerBe, game, serverLevel),
-          20);
-    } else {
-      BlackjackGame.Result result = game.determineResult();
-      handleResult(result, player, level, pos, dealerBe, game);
-      // Note: handleResult will schedule the reset - no need to duplicate it here
+  private static void scheduleReset(ServerLevel level, DealerBlockEntity dealerBe) {
+    dealerBe.setTableStep(
+        DealerBlockEntity.TableStep.RESETTING, level.getGameTime() + RESET_DELAY_TICKS);
+  }
+
+  /**
+   * What a seat is told about its result: a chat message and the table's sound and particles. Kept
+   * apart from the payout itself so the two can happen at different times.
+   */
+  public record Settlement(int seat, String message, SoundEvent sound, ParticleOptions particle) {}
+
+  /** Pays out and audits every seat in play, returning what each should be told. */
+  private static List<Settlement> commitPayouts(
+      Level level, BlockPos pos, DealerBlockEntity dealerBe, BlackjackGame game) {
+    List<Settlement> settlements = new ArrayList<>(game.getSeatsInPlay().length);
+    for (int seat : game.getSeatsInPlay()) {
+      Settlement settlement = handleResult(seat, level, pos, dealerBe, game);
+      if (settlement != null) {
+        settlements.add(settlement);
+      }
     }
+    return settlements;
   }
 
-  // ─────────────── Results + Rewards ───────────────
+  private static void announceResults(
+      Level level, BlockPos pos, DealerBlockEntity dealerBe, List<Settlement> settlements) {
+    for (Settlement settlement : settlements) {
+      ServerPlayer player = getOccupant(level, dealerBe, settlement.seat());
+      if (player != null) {
+        player.sendSystemMessage(Component.literal(settlement.message()));
+      }
+      playFeedback(level, pos, settlement.sound(), settlement.particle());
+    }
+  }
+
+  @Nullable
+  private static Settlement handleResult(
+      int seatIndex, Level level, BlockPos pos, DealerBlockEntity dealerBe, BlackjackGame game) {
+    Seat seat = game.getSeat(seatIndex);
+    BlackjackGame.Result result = game.determineSeatResult(seatIndex);
+    // Null when the player has gone offline; their winnings are then held at their seat
+    ServerPlayer player = getOccupant(level, dealerBe, seatIndex);
+
+    // Every hand is staked in multiples of the wager placed before the deal
+    ItemStack lastWager = dealerBe.getLastWager(seatIndex);
+    int baseWager = lastWager.isEmpty() ? 0 : lastWager.getCount();
+    int payout = game.payoutFor(seatIndex, baseWager);
 
-  private static void handleResult(
-      BlackjackGame.Result result,
-      ServerPlayer player,
-      Level level,
-      BlockPos pos,
-      DealerBlockEntity dealerBe,
-      BlackjackGame game) {
     // Build audit record
-    var rec = dealerBe.getOrCreateCurrentRecord();
+    GameRecord rec = dealerBe.newAuditRecord();
     rec.endEpochMs = System.currentTimeMillis();
     rec.result = result;
-    rec.doubledDown = game.hasDoubledDown();
-    rec.split = game.hasSplit();
+    rec.doubledDown = seat.hasDoubledDown();
+    rec.split = seat.hasSplit();
     rec.dealerScore = game.getHandValue(game.getDealerHand());
-    rec.playerScores.clear();
-    for (java.util.List<com.example.casinomod.blackjack.Card> h : game.getAllPlayerHands()) {
-      rec.playerScores.add(game.getHandValue(h));
+    for (int i = 0; i < seat.getHandCount(); i++) {
+      rec.playerScores.add(game.getHandValue(seat.getHand(i)));
+      rec.handBets.add(seat.getHandWager(i) * baseWager);
     }
+    rec.betCount = seat.getTotalWager() * baseWager;
+    rec.payoutCount = payout;
+    rec.journal = game.getJournal().copy();
 
-    switch (result) {
-      case WIN -> handleWin(player, level, pos, dealerBe, game);
-      case LOSE -> handleLoss(player, level, pos, dealerBe);
-      case DRAW -> handleDraw(player, level, pos, dealerBe);
-    }
-    // After payouts/returns potentially adjusted counts
-    var wager = dealerBe.inventory.getStackInSlot(0);
-    rec.betCount = dealerBe.getLastWager().isEmpty() ? 0 : dealerBe.getLastWager().getCount();
-    // For win/draw, payout already returned or moved; we record the computed return amount when win
-    if (result == BlackjackGame.Result.WIN) {
-      int effective = rec.doubledDown ? rec.betCount * 2 : rec.betCount;
-      if (game.isBlackjack() && !rec.doubledDown) {
-        rec.payoutCount = effective + (rec.betCount * 3 / 2);
-      } else {
-        rec.payoutCount = effective * 2;
-      }
-    } else if (result == BlackjackGame.Result.DRAW) {
-      rec.payoutCount = rec.betCount; // returned
-    } else {
-      rec.payoutCount = 0;
-    }
+    Settlement settlement =
+        switch (result) {
+          case WIN -> handleWin(player, seatIndex, dealerBe, seat, payout);
+          case LOSE -> handleLoss(seatIndex, dealerBe);
+          case DRAW -> handleDraw(player, seatIndex, dealerBe, payout);
+        };
 
     dealerBe.finalizeAuditRecord(rec);
-
-    ServerTaskScheduler.schedule(
-        Objects.requireNonNull(level.getServer()),
-        () -> {
-          game.reset();
-          updateBlock(level, pos, dealerBe);
-          CasinoMod.LOGGER.debug("[BlackjackHandler] Game reset after handling results.");
-        },
-        60);
+    return settlement;
   }
 
-  private static void handleWin(
-      ServerPlayer player,
-      Level level,
-      BlockPos pos,
+  @Nullable
+  private static Settlement handleWin(
+      @Nullable ServerPlayer player,
+      int seatIndex,
       DealerBlockEntity dealerBe,
-      BlackjackGame game) {
-    // Extract the wager from inventory and calculate payout
-    ItemStack wager = dealerBe.inventory.getStackInSlot(0);
-    if (!wager.isEmpty()) {
-      dealerBe.inventory.setStackInSlot(0, ItemStack.EMPTY);
-
-      // Calculate effective wager (doubled if player doubled down)
-      int effectiveWager = game.hasDoubledDown() ? wager.getCount() * 2 : wager.getCount();
-
-      // Blackjack pays 3:2 (1.5x payout), regular win pays 1:1 (1x payout)
-      // Note: Blackjack bonus doesn't apply when doubled down
-      int totalReturnCount;
-      if (game.isBlackjack() && !game.hasDoubledDown()) {
-        totalReturnCount =
-            effectiveWager + (wager.getCount() * 3 / 2); // 1.5x payout on original wager
-      } else {
-        totalReturnCount = effectiveWager * 2; // 1x payout on effective wager
-      }
-
-      ItemStack reward = wager.copyWithCount(totalReturnCount);
-      if (!player.getInventory().add(reward)) {
-        player.drop(reward, false);
-      }
-
-      String message;
-      if (game.isBlackjack() && !game.hasDoubledDown()) {
-        message = "Blackjack! 1.5x payout!";
-      } else if (game.hasDoubledDown()) {
-        message = "You win! Double down payout!";
-      } else {
-        message = "You win! Wager returned with payout.";
-      }
-      player.sendSystemMessage(Component.literal(message));
-      playFeedback(level, pos, SoundEvents.PLAYER_LEVELUP, ParticleTypes.HAPPY_VILLAGER);
+      Seat seat,
+      int payout) {
+    // Extract the wager from inventory and pay out every hand at once
+    ItemStack wager = dealerBe.inventory.getStackInSlot(seatIndex);
+    if (wager.isEmpty()) return null;
+    dealerBe.inventory.setStackInSlot(seatIndex, ItemStack.EMPTY);
+
+    // Blackjack pays 3:2, other winning hands 1:1 on their own (possibly doubled) wager
+    payOut(player, seatIndex, dealerBe, wager.copyWithCount(payout));
+
+    String message;
+    if (seat.isBlackjack()) {
+      message = "Blackjack! 1.5x payout!";
+    } else if (seat.hasSplit()) {
+      message = "You win! Split hands paid out.";
+    } else if (seat.hasDoubledDown()) {
+      message = "You win! Double down payout!";
+    } else {
+      message = "You win! Wager returned with payout.";
     }
+    return new Settlement(
+        seatIndex, message, SoundEvents.PLAYER_LEVELUP, ParticleTypes.HAPPY_VILLAGER);
   }
 
-  private static void handleLoss(
-      ServerPlayer player, Level level, BlockPos pos, DealerBlockEntity dealerBe) {
+  private static Settlement handleLoss(int seatIndex, DealerBlockEntity dealerBe) {
     // Extract the wager from inventory since player lost
-    ItemStack wager = dealerBe.inventory.getStackInSlot(0);
+    ItemStack wager = dealerBe.inventory.getStackInSlot(seatIndex);
     if (!wager.isEmpty()) {
-      dealerBe.inventory.setStackInSlot(0, ItemStack.EMPTY);
+      dealerBe.inventory.setStackInSlot(seatIndex, ItemStack.EMPTY);
     }
 
-    player.sendSystemMessage(Component.literal("You lost your wager."));
-    playFeedback(level, pos, SoundEvents.VILLAGER_NO, ParticleTypes.SMOKE);
+    return new Settlement(
+        seatIndex, "You lost your wager.", SoundEvents.VILLAGER_NO, ParticleTypes.SMOKE);
   }
 
-  private static void handleDraw(
-      ServerPlayer player, Level level, BlockPos pos, DealerBlockEntity dealerBe) {
-    // Extract the wager from inventory and return it to player
-    ItemStack wager = dealerBe.inventory.getStackInSlot(0);
-    if (!wager.isEmpty()) {
-      dealerBe.inventory.setStackInSlot(0, ItemStack.EMPTY);
-      if (!player.getInventory().add(wager)) {
-        player.drop(wager, false);
-      }
-      player.sendSystemMessage(Component.literal("It's a draw. Your wager has been returned."));
-      playFeedback(level, pos, SoundEvents.EXPERIENCE_ORB_PICKUP, ParticleTypes.NOTE);
+  @Nullable
+  private static Settlement handleDraw(
+      @Nullable ServerPlayer player, int seatIndex, DealerBlockEntity dealerBe, int payout) {
+    // Extract the wager from inventory and return what the hands earned; with split hands a draw
+    // overall can still mean some hands won and others lost
+    ItemStack wager = dealerBe.inventory.getStackInSlot(seatIndex);
+    if (wager.isEmpty()) return null;
+    dealerBe.inventory.setStackInSlot(seatIndex, ItemStack.EMPTY);
+    if (payout > 0) {
+      payOut(player, seatIndex, dealerBe, wager.copyWithCount(payout));
     }
+
+    String message =
+        payout == wager.getCount()
+            ? "It's a draw. Your wager has been returned."
+            : "Split hands settled: " + payout + " of " + wager.getCount() + " returned.";
+    return new Settlement(
+        seatIndex, message, SoundEvents.EXPERIENCE_ORB_PICKUP, ParticleTypes.NOTE);
   }
 
   // ─────────────── Helpers ───────────────
@@ -258,6 +311,36 @@ public class BlackjackHandler {
     }
   }
 
+  @Nullable
+  private static ServerPlayer getOccupant(Level level, DealerBlockEntity dealerBe, int seat) {
+    UUID occupant = dealerBe.getSeatOccupant(seat);
+    if (occupant == null || level.getServer() == null) return null;
+    return level.getServer().getPlayerList().getPlayer(occupant);
+  }
+
+  /**
+   * Gives the winnings to the seat's player, or holds them at the seat until they come back if they
+   * have gone offline.
+   */
+  private static void payOut(
+      @Nullable ServerPlayer player,
+      int seatIndex,
+      DealerBlockEntity dealerBe,
+      ItemStack winnings) {
+    if (player == null) {
+      dealerBe.holdWinnings(seatIndex, winnings);
+      return;
+    }
+    // In stacks the item allows, as whatever does not fit the inventory is dropped as it is
+    int stackSize = winnings.getMaxStackSize();
+    for (int left = winnings.getCount(); left > 0; left -= stackSize) {
+      ItemStack stack = winnings.copyWithCount(Math.min(left, stackSize));
+      if (!player.getInventory().add(stack)) {
+        player.drop(stack, false);
+      }
+    }
+  }
+
   private static void updateBlock(Level level, BlockPos pos, DealerBlockEntity dealerBe) {
     dealerBe.setChanged();
     level.sendBlockUpdated(pos, dealerBe.getBlockState(), dealerBe.getBlockState(), 3);
@@ -3,6 +3,7 @@ package com.example.casinomod.block.custom;
 import javax.annotation.Nullable;
 
 import com.example.casinomod.CasinoMod;
+import com.example.casinomod.block.entity.ModBlockEntities;
 import com.mojang.serialization.MapCodec;
 
 import net.minecraft.core.BlockPos;
@@ -19,6 +20,8 @@ import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
@@ -56,6 +59,16 @@ public class DealerBlock extends BaseEntityBlock {
     return new DealerBlockEntity(blockPos, blockState);
   }
 
+  /** Deals, reveals and resets run on the server's ticker; clients just show the synced table. */
+  @Nullable
+  @Override
+  public <T extends BlockEntity> BlockEntityTicker<T> getTicker(
+      Level level, BlockState state, BlockEntityType<T> type) {
+    return level.isClientSide()
+        ? null
+        : createTickerHelper(type, ModBlockEntities.DEALER_BE.get(), DealerBlockEntity::serverTick);
+  }
+
   @Override
   protected InteractionResult useItemOn(
       ItemStack stack,
@@ -75,10 +88,20 @@ public class DealerBlock extends BaseEntityBlock {
     if (!pLevel.isClientSide()) {
       BlockEntity entity = pLevel.getBlockEntity(pPos);
       if (entity instanceof DealerBlockEntity dealerBlockEntity) {
-        CasinoMod.LOGGER.info("DealerBlockEntity found. Opening screen...");
+        int seat = dealerBlockEntity.claimSeat(pPlayer.getUUID());
+        if (seat < 0) {
+          pPlayer.sendSystemMessage(Component.literal("This table is full."));
+          return InteractionResult.SUCCESS;
+        }
+        dealerBlockEntity.giveHeldWinnings(pPlayer);
+        CasinoMod.LOGGER.info("DealerBlockEntity found. Opening screen for seat {}...", seat);
         ((ServerPlayer) pPlayer)
             .openMenu(
-                new SimpleMenuProvider(dealerBlockEntity, Component.literal("Dealer Block")), pPos);
+                new SimpleMenuProvider(dealerBlockEntity, Component.literal("Dealer Block")),
+                buf -> {
+                  buf.writeBlockPos(pPos);
+                  buf.writeVarInt(seat);
+                });
       } else {
         CasinoMod.LOGGER.error("BlockEntity at {} is not a DealerBlockEntity!", pPos);
         throw new IllegalStateException("Our Container provider is missing!");
@@ -1,11 +1,24 @@
 package com.example.casinomod.block.custom;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
 import javax.annotation.Nullable;
 
 import com.example.casinomod.blackjack.BlackjackGame;
+import com.example.casinomod.blackjack.DealerTimeline;
 import com.example.casinomod.blackjack.GameRecord;
+import com.example.casinomod.blackjack.handler.BlackjackHandler;
+import com.example.casinomod.blackjack.handler.BlackjackHandler.Settlement;
 import com.example.casinomod.block.entity.ModBlockEntities;
 import com.example.casinomod.screen.custom.DealerMenu;
+import com.example.casinomod.util.ServerTaskScheduler;
+import com.example.casinomod.util.ValueIOState;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
@@ -14,38 +27,52 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.ProblemReporter;
 import net.minecraft.world.MenuProvider;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.storage.TagValueOutput;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 import net.neoforged.neoforge.items.ItemStackHandler;
 
 public class DealerBlockEntity extends BlockEntity implements MenuProvider {
+  public static final int MAX_SEATS = BlackjackGame.MAX_SEATS;
+  // Largest stack a wager slot takes, whatever the item
+  public static final int WAGER_STACK_LIMIT = 64;
+
   private final BlackjackGame blackjackGame = new BlackjackGame();
 
   // Game settings - per-block configuration
   private boolean surrenderAllowed = false;
   private boolean dealerHitsSoft17 = false; // Override global config
+  private boolean continuousShuffle = false;
+  // Seed the table's shuffles follow, for reproducible tables; empty shuffles at random
+  private OptionalLong seed = OptionalLong.empty();
   private int numberOfDecks = 1;
   private int minBet = 1;
   private int maxBet = 64;
+  private int seatCount = 1;
 
+  // One wager slot per seat; slot i holds the bet of whoever sits in seat i
   public final ItemStackHandler inventory =
-      new ItemStackHandler(1) {
+      new ItemStackHandler(MAX_SEATS) {
         @Override
         protected int getStackLimit(int slot, ItemStack stack) {
-          return 64; // Allow stacking for larger bets
+          return WAGER_STACK_LIMIT; // Allow stacking for larger bets
         }
 
         @Override
         public ItemStack extractItem(int slot, int amount, boolean simulate) {
-          // Prevent extraction during active games (except when dealing)
-          if (blackjackGame.getPhase() != BlackjackGame.GamePhase.WAITING) {
+          // Prevent extraction of wagers in play; seats sitting the round out keep access
+          if (blackjackGame.getPhase() != BlackjackGame.GamePhase.WAITING
+              && blackjackGame.getSeat(slot).isPlaying()) {
             return ItemStack.EMPTY;
           }
           return super.extractItem(slot, amount, simulate);
@@ -60,47 +87,268 @@ public class DealerBlockEntity extends BlockEntity implements MenuProvider {
         }
       };
 
-  private ItemStack lastWager = ItemStack.EMPTY;
+  private final UUID[] occupants = new UUID[MAX_SEATS];
+  private final ItemStack[] lastWagers = new ItemStack[MAX_SEATS];
+  // Winnings past the first stack for players who went offline before their round settled; the
+  // first stack waits in their wager slot
+  private final Map<UUID, List<ItemStack>> heldWinnings = new HashMap<>();
   private final java.util.List<GameRecord> audit = new java.util.ArrayList<>();
-  private GameRecord currentRecord = null;
+  private long roundStartEpochMs = 0;
+
+  // Dealer turn being revealed to clients, how far the reveal has got, and the results to announce
+  // once it is done; not saved
+  @Nullable private DealerTimeline reveal;
+  private int revealStep;
+  private List<Settlement> revealedResults = List.of();
+
+  /** What the table does on its own when {@link #nextStepTick} comes, between player actions. */
+  public enum TableStep {
+    IDLE("idle"),
+    DEALING("deal-step"),
+    REVEALING("dealer-draw"),
+    RESETTING("reset");
+
+    /** Name the step is timed under in the scheduler's stats. */
+    public final String label;
+
+    TableStep(String label) {
+      this.label = label;
+    }
+  }
+
+  private TableStep tableStep = TableStep.IDLE;
+  // Game time the table's next step runs at
+  private long nextStepTick = 0;
+  // Cards dealt so far in the opening deal
+  private int dealIndex = 0;
 
-  public void setLastWager(ItemStack wager) {
-    this.lastWager = wager.copy();
+  public void setLastWager(int seat, ItemStack wager) {
+    this.lastWagers[seat] = wager.copy();
   }
 
-  public ItemStack getLastWager() {
-    return lastWager;
+  public ItemStack getLastWager(int seat) {
+    return lastWagers[seat];
   }
 
+  /** Marks the start of a round; every seat's audit record carries this time. */
   public void startAuditRecord() {
-    currentRecord = new GameRecord();
-    currentRecord.startEpochMs = System.currentTimeMillis();
+    roundStartEpochMs = System.currentTimeMillis();
   }
 
   public void finalizeAuditRecord(GameRecord record) {
     audit.add(record);
-    currentRecord = null;
   }
 
-  public GameRecord getOrCreateCurrentRecord() {
-    if (currentRecord == null) {
-      startAuditRecord();
-    }
-    return currentRecord;
+  /** A new audit record for one seat's result in the current round. */
+  public GameRecord newAuditRecord() {
+    GameRecord record = new GameRecord();
+    record.startEpochMs = roundStartEpochMs != 0 ? roundStartEpochMs : System.currentTimeMillis();
+    return record;
   }
 
   public java.util.List<GameRecord> getAudit() {
     return audit;
   }
 
+  // ────────────────────── Seats ──────────────────────
+
+  /**
+   * Seats {@code player} at the table, keeping their seat if they already have one. Seats held by
+   * players who are no longer online are given up between rounds.
+   *
+   * @return the seat index, or -1 if every seat is taken
+   */
+  public int claimSeat(UUID player) {
+    int seat = getSeatOf(player);
+    if (seat >= 0) {
+      return seat;
+    }
+    for (int i = 0; i < seatCount; i++) {
+      if (occupants[i] == null || isAbandoned(i)) {
+        occupants[i] = player;
+        setChanged();
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Frees the player's seat, unless they still have a wager on the table or a round is running;
+   * the seat is then kept until they come back or go offline.
+   */
+  public void leaveSeat(UUID player) {
+    int seat = getSeatOf(player);
+    if (seat >= 0
+        && blackjackGame.getPhase() == BlackjackGame.GamePhase.WAITING
+        && inventory.getStackInSlot(seat).isEmpty()) {
+      occupants[seat] = null;
+      setChanged();
+    }
+  }
+
+  /** The seat held by {@code player}, or -1. */
+  public int getSeatOf(UUID player) {
+    for (int i = 0; i < MAX_SEATS; i++) {
+      if (player.equals(occupants[i])) return i;
+    }
+    return -1;
+  }
+
+  @Nullable
+  public UUID getSeatOccupant(int seat) {
+    return occupants[seat];
+  }
+
+  /**
+   * Occupied seats that have a wager placed, in playing order. Seats beyond the seat count, left
+   * over from before it was lowered, are not dealt in, nor are seats whose player is offline.
+   */
+  public int[] getSeatsWithWagers() {
+    int[] seats = new int[MAX_SEATS];
+    int count = 0;
+    for (int i = 0; i < seatCount; i++) {
+      if (occupants[i] != null && !inventory.getStackInSlot(i).isEmpty() && isOnline(i)) {
+        seats[count++] = i;
+      }
+    }
+    return Arrays.copyOf(seats, count);
+  }
+
+  /**
+   * Whether the seat's player has gone offline between rounds. A seat still holding their wager is
+   * kept for them, as whoever took it over could take the wager out.
+   */
+  private boolean isAbandoned(int seat) {
+    return blackjackGame.getPhase() == BlackjackGame.GamePhase.WAITING
+        && inventory.getStackInSlot(seat).isEmpty()
+        && !isOnline(seat);
+  }
+
+  private boolean isOnline(int seat) {
+    if (level == null || level.getServer() == null) return true;
+    return level.getServer().getPlayerList().getPlayer(occupants[seat]) != null;
+  }
+
+  /**
+   * Keeps {@code winnings} at {@code seat} for its player, who has gone offline, split into stacks
+   * the item allows. The first stack waits in the seat's wager slot, which keeps the seat theirs;
+   * the rest is handed over by {@link #giveHeldWinnings} when they come back.
+   */
+  public void holdWinnings(int seat, ItemStack winnings) {
+    int stackSize = Math.min(winnings.getMaxStackSize(), WAGER_STACK_LIMIT);
+    for (int left = winnings.getCount(); left > 0; left -= stackSize) {
+      ItemStack stack = winnings.copyWithCount(Math.min(left, stackSize));
+      if (inventory.getStackInSlot(seat).isEmpty()) {
+        inventory.setStackInSlot(seat, stack);
+      } else {
+        heldWinnings.computeIfAbsent(occupants[seat], key -> new ArrayList<>()).add(stack);
+      }
+    }
+    setChanged();
+  }
+
+  /** Gives {@code player} the winnings held for them beyond their wager slot, if any. */
+  public void giveHeldWinnings(Player player) {
+    List<ItemStack> held = heldWinnings.remove(player.getUUID());
+    if (held == null) return;
+    for (ItemStack stack : held) {
+      if (!player.getInventory().add(stack)) {
+        player.drop(stack, false);
+      }
+    }
+    setChanged();
+  }
+
   public DealerBlockEntity(BlockPos pos, BlockState state) {
     super(ModBlockEntities.DEALER_BE.get(), pos, state);
+    Arrays.fill(lastWagers, ItemStack.EMPTY);
   }
 
   public final BlackjackGame getGame() {
     return blackjackGame;
   }
 
+  // ────────────────────── Table Steps ──────────────────────
+
+  /**
+   * Runs the table's next step once its tick comes round. Tables with nothing to do, or waiting for
+   * their next step, return after a field read or two. Steps run within the {@link
+   * ServerTaskScheduler}'s per-tick budget and are timed in its stats; a step that does not fit
+   * stays due and runs on a later tick.
+   */
+  public static void serverTick(
+      Level level, BlockPos pos, BlockState state, DealerBlockEntity dealerBe) {
+    if (dealerBe.tableStep == TableStep.IDLE || level.getGameTime() < dealerBe.nextStepTick) {
+      return;
+    }
+    if (!(level instanceof ServerLevel serverLevel)
+        || !ServerTaskScheduler.tryStartStep(serverLevel.getServer())) {
+      return;
+    }
+
+    TableStep step = dealerBe.tableStep;
+    long lateTicks = level.getGameTime() - dealerBe.nextStepTick;
+    long started = System.nanoTime();
+    BlackjackHandler.runTableStep(serverLevel, pos, dealerBe);
+    ServerTaskScheduler.finishStep(step.label, lateTicks, System.nanoTime() - started);
+  }
+
+  public TableStep getTableStep() {
+    return tableStep;
+  }
+
+  /** Runs {@code step} at game time {@code tick}, or stops running steps if it is {@code IDLE}. */
+  public void setTableStep(TableStep step, long tick) {
+    tableStep = step;
+    nextStepTick = tick;
+    setChanged();
+  }
+
+  /** Starts the opening deal at game time {@code tick}. */
+  public void startDeal(long tick) {
+    dealIndex = 0;
+    setTableStep(TableStep.DEALING, tick);
+  }
+
+  /** The number of the opening deal's next card, counting from zero. */
+  public int nextDealIndex() {
+    return dealIndex++;
+  }
+
+  /**
+   * Starts revealing a dealer turn that has already been played at game time {@code tick}: clients
+   * see the dealer's starting hand until {@link #advanceReveal()} shows each drawn card in turn.
+   * {@code results} are kept to announce once it is done.
+   */
+  public void startReveal(DealerTimeline timeline, List<Settlement> results, long tick) {
+    reveal = timeline;
+    revealStep = 0;
+    revealedResults = results;
+    setTableStep(TableStep.REVEALING, tick);
+  }
+
+  /** The results of the dealer turn just revealed, which are then forgotten. */
+  public List<Settlement> takeRevealedResults() {
+    List<Settlement> results = revealedResults;
+    revealedResults = List.of();
+    return results;
+  }
+
+  /**
+   * Shows clients the next step of the dealer turn being revealed.
+   *
+   * @return false once every step has been shown, and the round's result with it
+   */
+  public boolean advanceReveal() {
+    if (reveal == null) return false;
+    if (++revealStep > reveal.size()) {
+      reveal = null;
+      return false;
+    }
+    return true;
+  }
+
   @Override
   public Component getDisplayName() {
     return Component.literal("Dealer Table");
@@ -109,12 +357,25 @@ public class DealerBlockEntity extends BlockEntity implements MenuProvider {
   @Nullable
   @Override
   public AbstractContainerMenu createMenu(int id, Inventory playerInventory, Player player) {
-    return new DealerMenu(id, playerInventory, this);
+    int seat = getSeatOf(player.getUUID());
+    return seat < 0 ? null : new DealerMenu(id, playerInventory, this, seat);
   }
 
   @Override
   public CompoundTag getUpdateTag(HolderLookup.Provider provider) {
-    return this.saveWithoutMetadata(provider);
+    CompoundTag tag = this.saveWithoutMetadata(provider);
+    // Clients must not learn the order of the undealt cards, which the saved shoe and the round
+    // journal both reveal, so they get the table as the players see it instead
+    TagValueOutput game = TagValueOutput.createWithContext(ProblemReporter.DISCARDING, provider);
+    if (reveal != null) {
+      blackjackGame.serializeTableView(ValueIOState.output(game), reveal, revealStep);
+    } else {
+      blackjackGame.serializeTableView(ValueIOState.output(game));
+    }
+    tag.put("game", game.buildResult());
+    // Nor the table's seed, which would let them work out its shoes
+    tag.getCompound("settings").ifPresent(settings -> settings.remove("seed"));
+    return tag;
   }
 
   @Override
@@ -124,15 +385,32 @@ public class DealerBlockEntity extends BlockEntity implements MenuProvider {
 
   @Override
   public void saveAdditional(ValueOutput output) {
-    blackjackGame.serialize(output.child("game"));
+    blackjackGame.serialize(ValueIOState.output(output.child("game")));
 
     // Save game settings
     ValueOutput settings = output.child("settings");
-    settings.putString("surrenderAllowed", String.valueOf(surrenderAllowed));
-    settings.putString("dealerHitsSoft17", String.valueOf(dealerHitsSoft17));
-    settings.putString("numberOfDecks", String.valueOf(numberOfDecks));
-    settings.putString("minBet", String.valueOf(minBet));
-    settings.putString("maxBet", String.valueOf(maxBet));
+    settings.putBoolean("surrenderAllowed", surrenderAllowed);
+    settings.putBoolean("dealerHitsSoft17", dealerHitsSoft17);
+    settings.putBoolean("continuousShuffle", continuousShuffle);
+    settings.putInt("numberOfDecks", numberOfDecks);
+    settings.putInt("minBet", minBet);
+    settings.putInt("maxBet", maxBet);
+    seed.ifPresent(value -> settings.putLong("seed", value));
+    settings.putInt("seatCount", seatCount);
+
+    ValueOutput step = output.child("tableStep");
+    step.putInt("step", tableStep.ordinal());
+    step.putLong("at", nextStepTick);
+    step.putInt("dealt", dealIndex);
+
+    var seatList = output.childrenList("occupants");
+    for (int i = 0; i < MAX_SEATS; i++) {
+      if (occupants[i] != null) {
+        var child = seatList.addChild();
+        child.putInt("seat", i);
+        child.putString("player", occupants[i].toString());
+      }
+    }
 
     // Note: lastWager will be synced through inventory updates instead
     // Persist only a recent slice of audit for client preview (pagination handles the rest).
@@ -146,36 +424,69 @@ public class DealerBlockEntity extends BlockEntity implements MenuProvider {
       child.putInt("res", r.result.ordinal());
       child.putInt("bet", r.betCount);
       child.putInt("pay", r.payoutCount);
-      child.putString("dd", String.valueOf(r.doubledDown));
-      child.putString("sp", String.valueOf(r.split));
+      child.putBoolean("dd", r.doubledDown);
+      child.putBoolean("sp", r.split);
       child.putInt("ds", r.dealerScore);
-      var ps = child.childrenList("ps");
-      for (int v : r.playerScores) ps.addChild().putInt("v", v);
+      child.putIntArray("ps", r.playerScores.stream().mapToInt(Integer::intValue).toArray());
+      child.putIntArray("hb", r.handBets.stream().mapToInt(Integer::intValue).toArray());
     }
     output.putInt("auditTotal", audit.size());
   }
 
   @Override
   public void loadAdditional(ValueInput input) {
-    input.child("game").ifPresent(blackjackGame::deserialize);
+    input.child("game").ifPresent(game -> blackjackGame.deserialize(ValueIOState.input(game)));
 
     // Load game settings
     input
         .child("settings")
         .ifPresent(
             settings -> {
-              settings
-                  .getString("surrenderAllowed")
-                  .ifPresent(s -> surrenderAllowed = Boolean.parseBoolean(s));
-              settings
-                  .getString("dealerHitsSoft17")
-                  .ifPresent(s -> dealerHitsSoft17 = Boolean.parseBoolean(s));
-              settings
-                  .getString("numberOfDecks")
-                  .ifPresent(s -> numberOfDecks = Integer.parseInt(s));
-              settings.getString("minBet").ifPresent(s -> minBet = Integer.parseInt(s));
-              settings.getString("maxBet").ifPresent(s -> maxBet = Integer.parseInt(s));
+              surrenderAllowed = readFlag(settings, "surrenderAllowed", surrenderAllowed);
+              dealerHitsSoft17 = readFlag(settings, "dealerHitsSoft17", dealerHitsSoft17);
+              continuousShuffle = settings.getBooleanOr("continuousShuffle", continuousShuffle);
+              numberOfDecks = readNumber(settings, "numberOfDecks", numberOfDecks);
+              minBet = readNumber(settings, "minBet", minBet);
+              maxBet = readNumber(settings, "maxBet", maxBet);
+              seed = settings.getLong("seed").map(OptionalLong::of).orElse(OptionalLong.empty());
+              seatCount = Math.clamp(readNumber(settings, "seatCount", seatCount), 1, MAX_SEATS);
+            });
+    blackjackGame.setContinuousShuffle(continuousShuffle);
+    // The generator itself is not saved; carry the seeded sequence on from the loaded shoe
+    seed.ifPresent(blackjackGame::resumeSeed);
+
+    tableStep = TableStep.IDLE;
+    input
+        .child("tableStep")
+        .ifPresent(
+            step -> {
+              int ordinal = step.getIntOr("step", 0);
+              tableStep =
+                  ordinal > 0 && ordinal < TableStep.values().length
+                      ? TableStep.values()[ordinal]
+                      : TableStep.IDLE;
+              nextStepTick = step.getLongOr("at", 0);
+              dealIndex = step.getIntOr("dealt", 0);
             });
+    if (tableStep == TableStep.REVEALING) {
+      // The reveal is not saved, and the round was settled when it began; skip to the reset
+      tableStep = TableStep.RESETTING;
+    }
+
+    Arrays.fill(occupants, null);
+    input
+        .childrenList("occupants")
+        .ifPresent(
+            list ->
+                list.forEach(
+                    child -> {
+                      int seat = child.getIntOr("seat", -1);
+                      if (seat >= 0 && seat < MAX_SEATS) {
+                        child
+                            .getString("player")
+                            .ifPresent(s -> occupants[seat] = UUID.fromString(s));
+                      }
+                    }));
 
     // Note: lastWager will be synced through inventory updates instead
     // Load preview slice for client-side display; full history remains server-side in memory.
@@ -194,21 +505,50 @@ public class DealerBlockEntity extends BlockEntity implements MenuProvider {
                           .ifPresent(v -> r.result = BlackjackGame.Result.values()[v]);
                       child.getInt("bet").ifPresent(v -> r.betCount = v);
                       child.getInt("pay").ifPresent(v -> r.payoutCount = v);
-                      child.getString("dd").ifPresent(s -> r.doubledDown = Boolean.parseBoolean(s));
-                      child.getString("sp").ifPresent(s -> r.split = Boolean.parseBoolean(s));
+                      r.doubledDown = readFlag(child, "dd", false);
+                      r.split = readFlag(child, "sp", false);
                       child.getInt("ds").ifPresent(v -> r.dealerScore = v);
-                      child
-                          .childrenList("ps")
-                          .ifPresent(
-                              ps ->
-                                  ps.forEach(
-                                      p ->
-                                          p.getInt("v").ifPresent(val -> r.playerScores.add(val))));
+                      readNumbers(child, "ps", r.playerScores);
+                      readNumbers(child, "hb", r.handBets);
                       audit.add(r);
                     }));
     // auditTotal is not used client-side directly; pagination packets provide authoritative totals.
   }
 
+  // Saves from before the compact format held flags and numbers as strings, and lists of numbers
+  // as one child per value
+
+  private static boolean readFlag(ValueInput input, String key, boolean fallback) {
+    return input
+        .getString(key)
+        .map(Boolean::parseBoolean)
+        .orElseGet(() -> input.getBooleanOr(key, fallback));
+  }
+
+  private static int readNumber(ValueInput input, String key, int fallback) {
+    try {
+      return input
+          .getString(key)
+          .map(Integer::parseInt)
+          .orElseGet(() -> input.getIntOr(key, fallback));
+    } catch (NumberFormatException e) {
+      return fallback;
+    }
+  }
+
+  private static void readNumbers(ValueInput input, String key, List<Integer> into) {
+    input
+        .getIntArray(key)
+        .ifPresentOrElse(
+            values -> {
+              for (int v : values) into.add(v);
+            },
+            () ->
+                input
+                    .childrenList(key)
+                    .ifPresent(list -> list.forEach(c -> c.getInt("v").ifPresent(into::add))));
+  }
+
   // ────────────────────── Game Settings Getters/Setters ──────────────────────
 
   public boolean isSurrenderAllowed() {
@@ -229,6 +569,36 @@ public class DealerBlockEntity extends BlockEntity implements MenuProvider {
     setChanged();
   }
 
+  public OptionalLong getSeed() {
+    return seed;
+  }
+
+  /**
+   * Makes the table's shuffles follow {@code seed}, so its sequence of shoes can be reproduced, or
+   * shuffle at random again if it is empty. Seeded tables shuffle their own shoes rather than take
+   * them from the shared pool.
+   */
+  public void setSeed(OptionalLong seed) {
+    this.seed = seed;
+    if (seed.isPresent()) {
+      blackjackGame.setSeed(seed.getAsLong());
+    } else {
+      blackjackGame.clearSeed();
+    }
+    setChanged();
+  }
+
+  public boolean isContinuousShuffle() {
+    return continuousShuffle;
+  }
+
+  /** Shuffles each round's cards back into the shoe as it ends; see the game's own setting. */
+  public void setContinuousShuffle(boolean continuousShuffle) {
+    this.continuousShuffle = continuousShuffle;
+    blackjackGame.setContinuousShuffle(continuousShuffle);
+    setChanged();
+  }
+
   public int getNumberOfDecks() {
     return numberOfDecks;
   }
@@ -255,4 +625,23 @@ public class DealerBlockEntity extends BlockEntity implements MenuProvider {
     this.maxBet = Math.max(this.minBet, maxBet);
     setChanged();
   }
+
+  public int getSeatCount() {
+    return seatCount;
+  }
+
+  /**
+   * Sets how many players can sit at the table, clamped to 1-{@value #MAX_SEATS}. Seats dropped
+   * with no wager in them are freed; players with a wager in one keep it until they take it back
+   * and leave, but are no longer dealt in.
+   */
+  public void setSeatCount(int seatCount) {
+    this.seatCount = Math.max(1, Math.min(MAX_SEATS, seatCount));
+    for (int i = this.seatCount; i < MAX_SEATS; i++) {
+      if (inventory.getStackInSlot(i).isEmpty()) {
+        occupants[i] = null;
+      }
+    }
+    setChanged();
+  }
 }
@@ -0,0 +1,226 @@
+package com.example.casinomod.command;
+
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.example.casinomod.CasinoMod;
+import com.example.casinomod.blackjack.Shoe;
+import com.example.casinomod.blackjack.ShoePool;
+import com.example.casinomod.blackjack.sim.SimulationResult;
+import com.example.casinomod.blackjack.sim.Simulator;
+import com.example.casinomod.blackjack.sim.Strategy;
+import com.example.casinomod.blackjack.sim.TableRules;
+import com.example.casinomod.block.custom.DealerBlockEntity;
+import com.example.casinomod.util.ServerTaskScheduler;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+
+/** Operator commands under {@code /casino}. */
+public class CasinoCommands {
+  public static final int MAX_SIMULATED_HANDS = 100_000_000;
+
+  private static final TableRules DEFAULT_RULES = TableRules.of(1, false);
+
+  // ─────────────── Registration ───────────────
+
+  public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+    dispatcher.register(
+        Commands.literal("casino")
+            .requires(source -> source.hasPermission(2))
+            .then(Commands.literal("simulate").then(simulateCommand()))
+            .then(Commands.literal("seed").then(seedCommand()))
+            .then(
+                Commands.literal("stats")
+                    .then(Commands.literal("scheduler").executes(CasinoCommands::schedulerStats))
+                    .then(Commands.literal("shoes").executes(CasinoCommands::shoePoolStats))));
+  }
+
+  /**
+   * {@code /casino simulate <hands> [<decks> <dealerHitsSoft17> | at <pos>]}. Without rules it uses
+   * the settings a newly placed dealer block starts with.
+   */
+  private static ArgumentBuilder<CommandSourceStack, ?> simulateCommand() {
+    return Commands.argument("hands", IntegerArgumentType.integer(1, MAX_SIMULATED_HANDS))
+        .executes(context -> simulate(context, DEFAULT_RULES))
+        .then(
+            Commands.argument("decks", IntegerArgumentType.integer(1, Shoe.MAX_DECKS))
+                .then(
+                    Commands.argument("dealerHitsSoft17", BoolArgumentType.bool())
+                        .executes(
+                            context ->
+                                simulate(
+                                    context,
+                                    TableRules.of(
+                                        IntegerArgumentType.getInteger(context, "decks"),
+                                        BoolArgumentType.getBool(context, "dealerHitsSoft17"))))))
+        .then(
+            Commands.literal("at")
+                .then(
+                    Commands.argument("pos", BlockPosArgument.blockPos())
+                        .executes(CasinoCommands::simulateAt)));
+  }
+
+  /** {@code /casino seed <pos> (<seed> | clear)}: seeds a table's shuffles, or unseeds them. */
+  private static ArgumentBuilder<CommandSourceStack, ?> seedCommand() {
+    return Commands.argument("pos", BlockPosArgument.blockPos())
+        .then(
+            Commands.argument("seed", LongArgumentType.longArg())
+                .executes(
+                    context ->
+                        setSeed(
+                            context, OptionalLong.of(LongArgumentType.getLong(context, "seed")))))
+        .then(
+            Commands.literal("clear").executes(context -> setSeed(context, OptionalLong.empty())));
+  }
+
+  // ─────────────── Table Seed ───────────────
+
+  private static int setSeed(CommandContext<CommandSourceStack> context, OptionalLong seed)
+      throws CommandSyntaxException {
+    BlockPos pos = BlockPosArgument.getLoadedBlockPos(context, "pos");
+    if (!(context.getSource().getLevel().getBlockEntity(pos)
+        instanceof DealerBlockEntity dealerBe)) {
+      context
+          .getSource()
+          .sendFailure(Component.literal("No dealer block at " + pos.toShortString()));
+      return 0;
+    }
+    dealerBe.setSeed(seed);
+    send(
+        context.getSource(),
+        seed.isPresent()
+            ? "Table at " + pos.toShortString() + " now shuffles from seed " + seed.getAsLong()
+            : "Table at " + pos.toShortString() + " now shuffles at random");
+    return 1;
+  }
+
+  // ─────────────── Simulation ───────────────
+
+  private static int simulateAt(CommandContext<CommandSourceStack> context)
+      throws CommandSyntaxException {
+    BlockPos pos = BlockPosArgument.getLoadedBlockPos(context, "pos");
+    if (!(context.getSource().getLevel().getBlockEntity(pos)
+        instanceof DealerBlockEntity dealerBe)) {
+      context
+          .getSource()
+          .sendFailure(Component.literal("No dealer block at " + pos.toShortString()));
+      return 0;
+    }
+    return simulate(
+        context, TableRules.of(dealerBe.getNumberOfDecks(), dealerBe.isDealerHitsSoft17()));
+  }
+
+  /** Runs the simulation off the server thread and reports back when it finishes. */
+  private static int simulate(CommandContext<CommandSourceStack> context, TableRules rules) {
+    CommandSourceStack source = context.getSource();
+    MinecraftServer server = source.getServer();
+    int hands = IntegerArgumentType.getInteger(context, "hands");
+    long seed = ThreadLocalRandom.current().nextLong();
+    long started = System.nanoTime();
+
+    source.sendSuccess(
+        () -> Component.literal("Simulating " + hands + " hands (" + rules.describe() + ")..."),
+        true);
+
+    new Simulator(rules, Strategy.basic(rules))
+        .runAsync(hands, seed)
+        .whenComplete(
+            (result, error) ->
+                server.execute(
+                    () -> {
+                      if (error != null) {
+                        CasinoMod.LOGGER.error("[CasinoCommands] Simulation failed", error);
+                        source.sendFailure(Component.literal("Simulation failed: " + error));
+                      } else {
+                        report(source, rules, seed, result, System.nanoTime() - started);
+                      }
+                    }));
+    return 1;
+  }
+
+  private static void report(
+      CommandSourceStack source,
+      TableRules rules,
+      long seed,
+      SimulationResult result,
+      long elapsedNanos) {
+    StringBuilder outcomes = new StringBuilder("Outcomes (bets):");
+    for (int halfBets = -SimulationResult.MAX_OUTCOME;
+        halfBets <= SimulationResult.MAX_OUTCOME;
+        halfBets++) {
+      double frequency = result.getOutcomeFrequency(halfBets);
+      if (frequency > 0) {
+        outcomes.append(String.format(" %+.1f: %.2f%%", halfBets / 2.0, frequency * 100));
+      }
+    }
+
+    send(
+        source,
+        String.format(
+            "Simulated %d hands (%s) in %.1f s, seed %d",
+            result.getRounds(), rules.describe(), elapsedNanos / 1e9, seed));
+    send(
+        source,
+        String.format(
+            "House edge: %.3f%% ± %.3f%% (95%%) of the initial bet",
+            result.getHouseEdge() * 100, result.getStandardError() * 196));
+    send(
+        source,
+        String.format(
+            "Std dev per hand: %.3f bets, average stake %.3f bets",
+            result.getStandardDeviation(), result.getTotalWagered() / result.getRounds()));
+    send(source, outcomes.toString());
+  }
+
+  // ─────────────── Stats ───────────────
+
+  /** {@code /casino stats scheduler}: what the table steps cost the server since it started. */
+  private static int schedulerStats(CommandContext<CommandSourceStack> context) {
+    CommandSourceStack source = context.getSource();
+    for (String line : ServerTaskScheduler.describeStats()) {
+      source.sendSuccess(() -> Component.literal(line), false);
+    }
+    return 1;
+  }
+
+  /** {@code /casino stats shoes}: how often new shoes came ready-shuffled from the shared pool. */
+  private static int shoePoolStats(CommandContext<CommandSourceStack> context) {
+    CommandSourceStack source = context.getSource();
+    ShoePool pool = ShoePool.active();
+    if (pool == null) {
+      source.sendFailure(Component.literal("The shoe pool is not running"));
+      return 0;
+    }
+
+    long hits = pool.getHits();
+    long misses = pool.getMisses();
+    long taken = hits + misses;
+    StringBuilder ready = new StringBuilder("Ready by deck count:");
+    for (int decks = 1; decks <= Shoe.MAX_DECKS; decks++) {
+      ready.append(' ').append(decks).append(": ").append(pool.readyCount(decks));
+    }
+    String summary =
+        String.format(
+            "Shoe pool: %d hit(s), %d miss(es), %.1f%% hit rate",
+            hits, misses, taken == 0 ? 0.0 : hits * 100.0 / taken);
+    source.sendSuccess(() -> Component.literal(summary), false);
+    source.sendSuccess(() -> Component.literal(ready.toString()), false);
+    return 1;
+  }
+
+  private static void send(CommandSourceStack source, String message) {
+    source.sendSuccess(() -> Component.literal(message), true);
+  }
+}
@@ -31,7 +31,7 @@ public record AuditPagePacket(
           int n = ByteBufCodecs.VAR_INT.decode(buf);
           List<GameRecord> recs = new ArrayList<>(n);
           for (int i = 0; i < n; i++) {
-            recs.add(GameRecord.STREAM_CODEC.decode(buf));
+            recs.add(GameRecordCodec.STREAM_CODEC.decode(buf));
           }
           return new AuditPagePacket(pos, page, pageSize, total, recs);
         }
@@ -44,7 +44,7 @@ public record AuditPagePacket(
           ByteBufCodecs.VAR_INT.encode(buf, p.total);
           ByteBufCodecs.VAR_INT.encode(buf, p.records.size());
           for (GameRecord r : p.records) {
-            GameRecord.STREAM_CODEC.encode(buf, r);
+            GameRecordCodec.STREAM_CODEC.encode(buf, r);
           }
         }
       };
@@ -79,49 +79,60 @@ public record DealerButtonPacket(BlockPos pos, Action action) implements CustomP
     }
 
     BlackjackGame game = dealerBe.getGame();
-    GamePhase phase = game.getPhase();
+    int seat = dealerBe.getSeatOf(player.getUUID());
+    if (seat < 0) {
+      CasinoMod.LOGGER.warn(
+          "Player {} has no seat at the table at {}", player.getName().getString(), pos);
+      return;
+    }
+
+    // Nobody acts while the table deals, reveals the dealer's turn or clears up
+    if (dealerBe.getTableStep() != DealerBlockEntity.TableStep.IDLE) {
+      CasinoMod.LOGGER.warn(
+          "Ignoring {} from seat {}: table is {}", packet.action(), seat, dealerBe.getTableStep());
+      return;
+    }
+
+    // Anyone seated may start the round, but only the seat whose turn it is may act
+    if (packet.action() != Action.DEAL && seat != game.getActiveSeatIndex()) {
+      CasinoMod.LOGGER.warn(
+          "Ignoring {} from seat {}: seat {} is to act",
+          packet.action(),
+          seat,
+          game.getActiveSeatIndex());
+      return;
+    }
 
     switch (packet.action()) {
-      case DEAL -> handleDeal(player, game, dealerBe, level, pos);
-      case HIT -> handleHit(game, dealerBe, level, pos, player);
-      case STAND -> handleStand(game, dealerBe, level, pos, player);
-      case DOUBLE_DOWN -> handleDoubleDown(game, dealerBe, level, pos, player);
-      case SPLIT -> handleSplit(game, dealerBe, level, pos, player);
+      case DEAL -> handleDeal(seat, game, dealerBe, level, pos);
+      case HIT -> handleHit(game, dealerBe, level, pos);
+      case STAND -> handleStand(game, dealerBe, level, pos);
+      case DOUBLE_DOWN -> handleDoubleDown(seat, game, dealerBe, level, pos, player);
+      case SPLIT -> handleSplit(seat, game, dealerBe, level, pos, player);
     }
   }
 
   // ──────────────── Actions ────────────────
 
   private static void handleDeal(
-      ServerPlayer player,
-      BlackjackGame game,
-      DealerBlockEntity dealerBe,
-      Level level,
-      BlockPos pos) {
+      int seat, BlackjackGame game, DealerBlockEntity dealerBe, Level level, BlockPos pos) {
     if (game.getPhase() != GamePhase.WAITING) {
       CasinoMod.LOGGER.warn("Cannot deal. Current phase: {}", game.getPhase());
       return;
     }
 
-    if (!dealerBe.inventory.getStackInSlot(0).isEmpty()) {
-      // Store wager info but don't extract yet - keep it visible during game
-      ItemStack wager = dealerBe.inventory.getStackInSlot(0).copy();
-      dealerBe.setLastWager(wager);
-
+    if (!dealerBe.inventory.getStackInSlot(seat).isEmpty()) {
+      // Deals in every seated player with a wager, not just the one who pressed the button
       if (level.getServer() != null) {
-        BlackjackHandler.startGameWithDelay(player, level, pos, dealerBe, game);
+        BlackjackHandler.startGameWithDelay(level, pos, dealerBe, game);
       }
     } else {
-      CasinoMod.LOGGER.warn("No item found in dealer inventory slot.");
+      CasinoMod.LOGGER.warn("No item found in wager slot of seat {}.", seat);
     }
   }
 
   private static void handleHit(
-      BlackjackGame game,
-      DealerBlockEntity dealerBe,
-      Level level,
-      BlockPos pos,
-      ServerPlayer player) {
+      BlackjackGame game, DealerBlockEntity dealerBe, Level level, BlockPos pos) {
     if (game.getPhase() != GamePhase.PLAYER_TURN) {
       CasinoMod.LOGGER.warn("Cannot hit. Current phase: {}", game.getPhase());
       return;
@@ -129,15 +140,11 @@ public record DealerButtonPacket(BlockPos pos, Action action) implements CustomP
 
     game.hitPlayer();
     updateBlock(level, pos, dealerBe);
-    proceedToNextPhaseIfNeeded(game, player, level, pos, dealerBe);
+    proceedToNextPhaseIfNeeded(game, level, pos, dealerBe);
   }
 
   private static void handleStand(
-      BlackjackGame game,
-      DealerBlockEntity dealerBe,
-      Level level,
-      BlockPos pos,
-      ServerPlayer player) {
+      BlackjackGame game, DealerBlockEntity dealerBe, Level level, BlockPos pos) {
     if (game.getPhase() != GamePhase.PLAYER_TURN) {
       CasinoMod.LOGGER.warn("Cannot stand. Current phase: {}", game.getPhase());
       return;
@@ -145,10 +152,11 @@ public record DealerButtonPacket(BlockPos pos, Action action) implements CustomP
 
     game.stand();
     updateBlock(level, pos, dealerBe);
-    proceedToNextPhaseIfNeeded(game, player, level, pos, dealerBe);
+    proceedToNextPhaseIfNeeded(game, level, pos, dealerBe);
   }
 
   private static void handleDoubleDown(
+      int seat,
       BlackjackGame game,
       DealerBlockEntity dealerBe,
       Level level,
@@ -162,57 +170,25 @@ public record DealerButtonPacket(BlockPos pos, Action action) implements CustomP
       return;
     }
 
-    // Get the current wager to double it
-    ItemStack currentWager = dealerBe.inventory.getStackInSlot(0);
-    if (currentWager.isEmpty()) {
-      CasinoMod.LOGGER.warn("Cannot double down - no wager found");
+    // Doubling stakes one more base wager on the current hand
+    ItemStack currentWager = dealerBe.inventory.getStackInSlot(seat);
+    if (!addWager(seat, dealerBe, player, "double down")) {
       return;
     }
 
-    // Try to extract matching wager from player's inventory for the double down
-    ItemStack additionalWager = new ItemStack(currentWager.getItem(), currentWager.getCount());
-    boolean extracted = false;
-
-    // Try to remove the additional wager from player's inventory
-    for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
-      ItemStack slot = player.getInventory().getItem(i);
-      if (ItemStack.isSameItemSameComponents(slot, additionalWager)
-          && slot.getCount() >= additionalWager.getCount()) {
-        slot.shrink(additionalWager.getCount());
-        extracted = true;
-        break;
-      }
-    }
-
-    if (!extracted) {
-      player.sendSystemMessage(
-          Component.literal("Cannot double down - insufficient matching items in inventory"));
-      CasinoMod.LOGGER.warn(
-          "Player {} cannot double down - insufficient matching items",
-          player.getName().getString());
-      return;
-    }
-
-    // Add the additional wager to the dealer inventory to double the bet
-    ItemStack doubledWager = currentWager.copy();
-    doubledWager.setCount(currentWager.getCount() * 2);
-    dealerBe.inventory.setStackInSlot(0, doubledWager);
-
-    // Update the stored wager amount
-    dealerBe.setLastWager(doubledWager.copy());
-
     game.doubleDown();
     updateBlock(level, pos, dealerBe);
-    proceedToNextPhaseIfNeeded(game, player, level, pos, dealerBe);
+    proceedToNextPhaseIfNeeded(game, level, pos, dealerBe);
 
     CasinoMod.LOGGER.info(
-        "Player {} doubled down, wager doubled from {} to {}",
+        "Player {} doubled down, wager raised from {} to {}",
         player.getName().getString(),
         currentWager.getCount(),
-        doubledWager.getCount());
+        dealerBe.inventory.getStackInSlot(seat).getCount());
   }
 
   private static void handleSplit(
+      int seat,
       BlackjackGame game,
       DealerBlockEntity dealerBe,
       Level level,
@@ -227,23 +203,53 @@ public record DealerButtonPacket(BlockPos pos, Action action) implements CustomP
       return;
     }
 
-    // Get the current wager to match it for the split
-    ItemStack currentWager = dealerBe.inventory.getStackInSlot(0);
-    if (currentWager.isEmpty()) {
-      CasinoMod.LOGGER.warn("Cannot split - no wager found");
+    // The new hand is staked with one more base wager
+    ItemStack currentWager = dealerBe.inventory.getStackInSlot(seat);
+    if (!addWager(seat, dealerBe, player, "split")) {
       return;
     }
 
-    // Try to extract matching wager from player's inventory for the split hand
-    ItemStack additionalWager = new ItemStack(currentWager.getItem(), currentWager.getCount());
-    boolean extracted = false;
+    game.splitPairs();
+    updateBlock(level, pos, dealerBe);
+    // Splitting aces can end the seat's turn straight away
+    proceedToNextPhaseIfNeeded(game, level, pos, dealerBe);
+
+    CasinoMod.LOGGER.info(
+        "Player {} split pairs, wager raised from {} to {}",
+        player.getName().getString(),
+        currentWager.getCount(),
+        dealerBe.inventory.getStackInSlot(seat).getCount());
+  }
+
+  /**
+   * Moves one more base wager (the stake placed before the deal) from the player's inventory into
+   * the seat's wager slot. Tells the player and returns false if they cannot cover it or the slot
+   * cannot hold it.
+   */
+  private static boolean addWager(
+      int seat, DealerBlockEntity dealerBe, ServerPlayer player, String action) {
+    ItemStack currentWager = dealerBe.inventory.getStackInSlot(seat);
+    ItemStack baseWager = dealerBe.getLastWager(seat);
+    if (currentWager.isEmpty() || baseWager.isEmpty()) {
+      CasinoMod.LOGGER.warn("Cannot {} - no wager found", action);
+      return false;
+    }
+
+    int raised = currentWager.getCount() + baseWager.getCount();
+    int limit = Math.min(dealerBe.inventory.getSlotLimit(seat), currentWager.getMaxStackSize());
+    if (raised > limit) {
+      player.sendSystemMessage(
+          Component.literal("Cannot " + action + " - the wager slot can only hold " + limit));
+      return false;
+    }
 
     // Try to remove the additional wager from player's inventory
+    boolean extracted = false;
     for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
       ItemStack slot = player.getInventory().getItem(i);
-      if (ItemStack.isSameItemSameComponents(slot, additionalWager)
-          && slot.getCount() >= additionalWager.getCount()) {
-        slot.shrink(additionalWager.getCount());
+      if (ItemStack.isSameItemSameComponents(slot, currentWager)
+          && slot.getCount() >= baseWager.getCount()) {
+        slot.shrink(baseWager.getCount());
         extracted = true;
         break;
       }
@@ -251,40 +257,24 @@ public record DealerButtonPacket(BlockPos pos, Action action) implements CustomP
 
     if (!extracted) {
       player.sendSystemMessage(
-          Component.literal("Cannot split - insufficient matching items in inventory"));
+          Component.literal("Cannot " + action + " - insufficient matching items in inventory"));
       CasinoMod.LOGGER.warn(
-          "Player {} cannot split - insufficient matching items", player.getName().getString());
-      return;
+          "Player {} cannot {} - insufficient matching items",
+          player.getName().getString(),
+          action);
+      return false;
     }
 
-    // Add the additional wager to the dealer inventory for the second hand
-    ItemStack doubledWager = currentWager.copy();
-    doubledWager.setCount(currentWager.getCount() * 2);
-    dealerBe.inventory.setStackInSlot(0, doubledWager);
-
-    // Update the stored wager amount
-    dealerBe.setLastWager(doubledWager.copy());
-
-    game.splitPairs();
-    updateBlock(level, pos, dealerBe);
-
-    CasinoMod.LOGGER.info(
-        "Player {} split pairs, wager doubled from {} to {}",
-        player.getName().getString(),
-        currentWager.getCount(),
-        doubledWager.getCount());
+    dealerBe.inventory.setStackInSlot(seat, currentWager.copyWithCount(raised));
+    return true;
   }
 
   private static void proceedToNextPhaseIfNeeded(
-      BlackjackGame game,
-      ServerPlayer player,
-      Level level,
-      BlockPos pos,
-      DealerBlockEntity dealerBe) {
-    // Proceed to dealer turn if game phase changed to dealer turn or finished
+      BlackjackGame game, Level level, BlockPos pos, DealerBlockEntity dealerBe) {
+    // Once the last seat has finished, the dealer plays (or the round settles) for everyone
     if ((game.getPhase() == GamePhase.DEALER_TURN || game.getPhase() == GamePhase.FINISHED)
         && level.getServer() != null) {
-      BlackjackHandler.simulateDealerTurn(player, level, pos, dealerBe, game);
+      BlackjackHandler.simulateDealerTurn(level, pos, dealerBe, game);
     }
   }
 
@@ -1,26 +1,17 @@
-package com.example.casinomod.blackjack;
+package com.example.casinomod.network;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.example.casinomod.blackjack.BlackjackGame;
+import com.example.casinomod.blackjack.GameRecord;
 
 import io.netty.buffer.ByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 
-/** Minimal audit record for a completed blackjack game. */
-public class GameRecord {
-  public long startEpochMs;
-  public long endEpochMs;
-  public BlackjackGame.Result result;
-  public int betCount;
-  public int payoutCount;
-  public boolean doubledDown;
-  public boolean split;
-  public int dealerScore;
-  public List<Integer> playerScores = new ArrayList<>();
-
-  public GameRecord() {}
-
+/**
+ * Network codec for the engine's {@link GameRecord}. The round journal stays on the server and is
+ * never encoded.
+ */
+public final class GameRecordCodec {
   public static final StreamCodec<ByteBuf, GameRecord> STREAM_CODEC =
       new StreamCodec<>() {
         @Override
@@ -38,6 +29,10 @@ public class GameRecord {
           for (int i = 0; i < n; i++) {
             r.playerScores.add(ByteBufCodecs.VAR_INT.decode(buf));
           }
+          int bets = ByteBufCodecs.VAR_INT.decode(buf);
+          for (int i = 0; i < bets; i++) {
+            r.handBets.add(ByteBufCodecs.VAR_INT.decode(buf));
+          }
           return r;
         }
 
@@ -55,6 +50,12 @@ public class GameRecord {
           for (int v : r.playerScores) {
             ByteBufCodecs.VAR_INT.encode(buf, v);
           }
+          ByteBufCodecs.VAR_INT.encode(buf, r.handBets.size());
+          for (int v : r.handBets) {
+            ByteBufCodecs.VAR_INT.encode(buf, v);
+          }
         }
       };
+
+  private GameRecordCodec() {}
 }
@@ -45,9 +45,11 @@ public class SettingsHandler {
               // Update settings
               dealerEntity.setSurrenderAllowed(data.surrenderAllowed());
               dealerEntity.setDealerHitsSoft17(data.dealerHitsSoft17());
+              dealerEntity.setContinuousShuffle(data.continuousShuffle());
               dealerEntity.setNumberOfDecks(data.numberOfDecks());
               dealerEntity.setMinBet(data.minBet());
               dealerEntity.setMaxBet(data.maxBet());
+              dealerEntity.setSeatCount(data.seatCount());
 
               // Sync changes to client
               level.sendBlockUpdated(
@@ -57,13 +59,15 @@ public class SettingsHandler {
                   3);
 
               CasinoMod.LOGGER.info(
-                  "[SettingsHandler] Updated settings for dealer block at {}: surrender={}, soft17={}, decks={}, betLimits={}-{}",
+                  "[SettingsHandler] Updated settings for dealer block at {}: surrender={}, soft17={}, csm={}, decks={}, betLimits={}-{}, seats={}",
                   data.blockPos(),
                   data.surrenderAllowed(),
                   data.dealerHitsSoft17(),
+                  data.continuousShuffle(),
                   data.numberOfDecks(),
                   data.minBet(),
-                  data.maxBet());
+                  data.maxBet(),
+                  data.seatCount());
             } else {
               CasinoMod.LOGGER.error(
                   "[SettingsHandler] Block entity at {} is not a DealerBlockEntity",
@@ -11,9 +11,11 @@ public record SettingsPacket(
     BlockPos blockPos,
     boolean surrenderAllowed,
     boolean dealerHitsSoft17,
+    boolean continuousShuffle,
     int numberOfDecks,
     int minBet,
-    int maxBet)
+    int maxBet,
+    int seatCount)
     implements CustomPacketPayload {
 
   public static final CustomPacketPayload.Type<SettingsPacket> TYPE =
@@ -28,12 +30,16 @@ public record SettingsPacket(
           SettingsPacket::surrenderAllowed,
           ByteBufCodecs.BOOL,
           SettingsPacket::dealerHitsSoft17,
+          ByteBufCodecs.BOOL,
+          SettingsPacket::continuousShuffle,
           ByteBufCodecs.VAR_INT,
           SettingsPacket::numberOfDecks,
           ByteBufCodecs.VAR_INT,
           SettingsPacket::minBet,
           ByteBufCodecs.VAR_INT,
           SettingsPacket::maxBet,
+          ByteBufCodecs.VAR_INT,
+          SettingsPacket::seatCount,
           SettingsPacket::new);
 
   @Override
@@ -18,21 +18,32 @@ import net.neoforged.neoforge.items.SlotItemHandler;
 public class DealerMenu extends AbstractContainerMenu {
   public final DealerBlockEntity blockEntity;
   private final Level level;
+  private final int seat;
 
   public DealerMenu(int containerId, Inventory inv, FriendlyByteBuf extraData) {
-    this(containerId, inv, inv.player.level().getBlockEntity(extraData.readBlockPos()));
+    this(
+        containerId,
+        inv,
+        inv.player.level().getBlockEntity(extraData.readBlockPos()),
+        extraData.readVarInt());
   }
 
-  public DealerMenu(int containerId, Inventory inv, BlockEntity blockEntity) {
+  public DealerMenu(int containerId, Inventory inv, BlockEntity blockEntity, int seat) {
     super(ModMenuTypes.DEALER_MENU.get(), containerId);
     this.blockEntity = ((DealerBlockEntity) blockEntity);
     this.level = inv.player.level();
+    this.seat = seat;
 
     // Hotbar at bottom (nominal coordinates)
     addPlayerHotbar(inv, 160);
 
-    // Wager slot centered for nominal 200×200 GUI
-    this.addSlot(new SlotItemHandler(this.blockEntity.inventory, 0, 100 - 9, 80));
+    // The viewer's own wager slot, centered for nominal 200×200 GUI
+    this.addSlot(new SlotItemHandler(this.blockEntity.inventory, seat, 100 - 9, 80));
+  }
+
+  /** The seat this menu's player sits in, which is also their wager slot. */
+  public int getSeat() {
+    return seat;
   }
 
   private static final int HOTBAR_SLOT_COUNT = 9;
@@ -79,6 +90,14 @@ public class DealerMenu extends AbstractContainerMenu {
     return copyOfSourceStack;
   }
 
+  @Override
+  public void removed(Player player) {
+    super.removed(player);
+    if (!level.isClientSide()) {
+      blockEntity.leaveSeat(player.getUUID());
+    }
+  }
+
   @Override
   public boolean stillValid(Player player) {
     return stillValid(
@@ -3,8 +3,12 @@ package com.example.casinomod.screen.custom;
 import java.util.List;
 
 import com.example.casinomod.CasinoMod;
+import com.example.casinomod.Config;
 import com.example.casinomod.blackjack.BlackjackGame;
 import com.example.casinomod.blackjack.Card;
+import com.example.casinomod.blackjack.PlayerAction;
+import com.example.casinomod.blackjack.Seat;
+import com.example.casinomod.block.custom.DealerBlockEntity;
 import com.example.casinomod.network.DealerButtonPacket;
 import com.example.casinomod.network.DealerButtonPacket.Action;
 import com.example.casinomod.network.SettingsPacket;
@@ -28,6 +32,16 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       ResourceLocation.fromNamespaceAndPath(
           CasinoMod.MODID, "textures/gui/dealer_block/dealer_gui.png");
 
+  // One texture per card ID, built once so drawing a hand does not allocate
+  private static final ResourceLocation CARD_BACK_TEXTURE = getCardTexture("back");
+  private static final ResourceLocation[] CARD_TEXTURES = new ResourceLocation[Card.COUNT];
+
+  static {
+    for (int id = 0; id < Card.COUNT; id++) {
+      CARD_TEXTURES[id] = getCardTexture(Card.byId(id).getCardName());
+    }
+  }
+
   private static final int BASE_GUI_SIZE = 200; // nominal base for scaling
   private static final int BASE_CARD_WIDTH = 37;
   private static final int BASE_CARD_HEIGHT = 52;
@@ -186,7 +200,7 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
 
     super.render(guiGraphics, mouseX, mouseY, partialTick);
 
-    BlackjackGame.Result result = menu.blockEntity.getGame().getResult();
+    BlackjackGame.Result result = getSeatResult();
     if (result != null) {
       String message =
           switch (result) {
@@ -211,28 +225,29 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
 
     // Display hand values and bet information when cards are dealt
     BlackjackGame game = menu.blockEntity.getGame();
-    int playerHandSize = game.getPlayerHand().size();
+    Seat seat = game.getSeat(menu.getSeat());
+    int playerHandSize = seat.getCurrentHand().size();
     int dealerHandSize = game.getDealerHand().size();
     if (playerHandSize > 0 || dealerHandSize > 0) {
       // Player hand value(s) - show all hands if split
       String playerText;
-      if (game.hasSplit()) {
+      if (seat.hasSplit()) {
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < game.getHandCount(); i++) {
+        for (int i = 0; i < seat.getHandCount(); i++) {
           if (i > 0) sb.append("  ");
-          List<Card> hand = game.getPlayerHand(i);
+          List<Card> hand = seat.getHand(i);
           int handValue = game.getHandValue(hand);
           sb.append("Hand ").append(i + 1).append(": ").append(handValue);
           if (handValue > 21) {
             sb.append(" (BUST)");
           }
-          if (i == game.getCurrentHandIndex()) {
+          if (i == seat.getCurrentHandIndex()) {
             sb.append(" *"); // Mark active hand
           }
         }
         playerText = sb.toString();
       } else {
-        int playerValue = game.getHandValue(game.getPlayerHand());
+        int playerValue = game.getHandValue(seat.getCurrentHand());
         playerText = "Player: " + playerValue;
         if (playerValue > 21) {
           playerText += " (BUST)";
@@ -267,10 +282,25 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       int playerX = 10;
       int playerY = this.height - 30;
       guiGraphics.drawString(this.font, playerText, playerX, playerY, 0xFFFFFFFF, false);
+
+      // Other seats' turns: say who the table is waiting on
+      if (game.getPhase() == BlackjackGame.GamePhase.PLAYER_TURN && !isMyTurn()) {
+        String waitText = "Waiting for seat " + (game.getActiveSeatIndex() + 1);
+        guiGraphics.drawString(this.font, waitText, playerX, playerY - 12, 0xFFAAAAAA, false);
+      }
+
+      // Basic-strategy hint above the player total
+      if (Config.SHOW_STRATEGY_HINTS.get() && isMyTurn()) {
+        PlayerAction hint = game.recommendedAction(menu.blockEntity.isDealerHitsSoft17());
+        if (hint != null) {
+          String hintText = "Hint: " + formatAction(hint);
+          guiGraphics.drawString(this.font, hintText, playerX, playerY - 12, 0xFFFFFF55, false);
+        }
+      }
     }
 
     // Show current bet amount - use the inventory slot instead of lastWager for now
-    ItemStack currentBet = menu.blockEntity.inventory.getStackInSlot(0);
+    ItemStack currentBet = menu.blockEntity.inventory.getStackInSlot(menu.getSeat());
     if (!currentBet.isEmpty()) {
       String betText =
           "Bet: " + currentBet.getCount() + " " + currentBet.getHoverName().getString();
@@ -280,7 +310,7 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       guiGraphics.drawString(this.font, betText, betX, betY, 0xFFFFFFFF, false);
     } else {
       // Try to show lastWager if inventory is empty but wager was placed
-      ItemStack lastWager = menu.blockEntity.getLastWager();
+      ItemStack lastWager = menu.blockEntity.getLastWager(menu.getSeat());
       if (!lastWager.isEmpty()) {
         String betText =
             "Last Bet: " + lastWager.getCount() + " " + lastWager.getHoverName().getString();
@@ -426,9 +456,11 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       sendSettingsUpdate(
           !menu.blockEntity.isSurrenderAllowed(),
           menu.blockEntity.isDealerHitsSoft17(),
+          menu.blockEntity.isContinuousShuffle(),
           menu.blockEntity.getNumberOfDecks(),
           menu.blockEntity.getMinBet(),
-          menu.blockEntity.getMaxBet());
+          menu.blockEntity.getMaxBet(),
+          menu.blockEntity.getSeatCount());
       return true;
     }
     settingsY += this.font.lineHeight + 2;
@@ -443,9 +475,30 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       sendSettingsUpdate(
           menu.blockEntity.isSurrenderAllowed(),
           !menu.blockEntity.isDealerHitsSoft17(),
+          menu.blockEntity.isContinuousShuffle(),
           menu.blockEntity.getNumberOfDecks(),
           menu.blockEntity.getMinBet(),
-          menu.blockEntity.getMaxBet());
+          menu.blockEntity.getMaxBet(),
+          menu.blockEntity.getSeatCount());
+      return true;
+    }
+    settingsY += this.font.lineHeight + 2;
+
+    // Continuous shuffle checkbox - click anywhere on the line
+    String csmText =
+        (menu.blockEntity.isContinuousShuffle() ? "[✓]" : "[ ]") + " Continuous shuffle";
+    if (mouseX >= panelX + 6
+        && mouseX <= panelX + 6 + this.font.width(csmText)
+        && mouseY >= settingsY
+        && mouseY <= settingsY + this.font.lineHeight) {
+      sendSettingsUpdate(
+          menu.blockEntity.isSurrenderAllowed(),
+          menu.blockEntity.isDealerHitsSoft17(),
+          !menu.blockEntity.isContinuousShuffle(),
+          menu.blockEntity.getNumberOfDecks(),
+          menu.blockEntity.getMinBet(),
+          menu.blockEntity.getMaxBet(),
+          menu.blockEntity.getSeatCount());
       return true;
     }
     settingsY += this.font.lineHeight + 2;
@@ -464,9 +517,11 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       sendSettingsUpdate(
           menu.blockEntity.isSurrenderAllowed(),
           menu.blockEntity.isDealerHitsSoft17(),
+          menu.blockEntity.isContinuousShuffle(),
           newDecks,
           menu.blockEntity.getMinBet(),
-          menu.blockEntity.getMaxBet());
+          menu.blockEntity.getMaxBet(),
+          menu.blockEntity.getSeatCount());
       return true;
     }
 
@@ -479,9 +534,39 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       sendSettingsUpdate(
           menu.blockEntity.isSurrenderAllowed(),
           menu.blockEntity.isDealerHitsSoft17(),
+          menu.blockEntity.isContinuousShuffle(),
           newDecks,
           menu.blockEntity.getMinBet(),
-          menu.blockEntity.getMaxBet());
+          menu.blockEntity.getMaxBet(),
+          menu.blockEntity.getSeatCount());
+      return true;
+    }
+    settingsY += this.font.lineHeight + 2;
+
+    // Seat count controls
+    int seatsX = panelX + 6 + this.font.width("Seats: ");
+    int seatCountX = seatsX + this.font.width("[-] ");
+    int seatsPlusX =
+        seatCountX + this.font.width(String.valueOf(menu.blockEntity.getSeatCount())) + 2;
+    int seatDelta = 0;
+    if (mouseY >= settingsY && mouseY <= settingsY + this.font.lineHeight) {
+      if (mouseX >= seatsX && mouseX <= seatsX + this.font.width("[-]")) {
+        seatDelta = -1;
+      } else if (mouseX >= seatsPlusX && mouseX <= seatsPlusX + this.font.width("[+]")) {
+        seatDelta = 1;
+      }
+    }
+    if (seatDelta != 0) {
+      int newSeats =
+          Math.clamp(menu.blockEntity.getSeatCount() + seatDelta, 1, DealerBlockEntity.MAX_SEATS);
+      sendSettingsUpdate(
+          menu.blockEntity.isSurrenderAllowed(),
+          menu.blockEntity.isDealerHitsSoft17(),
+          menu.blockEntity.isContinuousShuffle(),
+          menu.blockEntity.getNumberOfDecks(),
+          menu.blockEntity.getMinBet(),
+          menu.blockEntity.getMaxBet(),
+          newSeats);
       return true;
     }
 
@@ -491,17 +576,21 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
   private void sendSettingsUpdate(
       boolean surrenderAllowed,
       boolean dealerHitsSoft17,
+      boolean continuousShuffle,
       int numberOfDecks,
       int minBet,
-      int maxBet) {
+      int maxBet,
+      int seatCount) {
     SettingsPacket packet =
         new SettingsPacket(
             menu.blockEntity.getBlockPos(),
             surrenderAllowed,
             dealerHitsSoft17,
+            continuousShuffle,
             numberOfDecks,
             minBet,
-            maxBet);
+            maxBet,
+            seatCount);
     ClientPacketDistributor.sendToServer(packet);
   }
 
@@ -551,25 +640,26 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
         cardWidth,
         cardHeight);
 
-    // Player cards - render all hands if split
+    // The viewer's own seat - render all hands if split
+    Seat seat = game.getSeat(menu.getSeat());
     int playerY = guiTop + (int) (130 * scaleFactor);
-    if (game.hasSplit()) {
+    if (seat.hasSplit()) {
       // Render multiple hands side by side
       int totalHandsWidth = 0;
-      for (int i = 0; i < game.getHandCount(); i++) {
-        List<Card> hand = game.getPlayerHand(i);
+      for (int i = 0; i < seat.getHandCount(); i++) {
+        List<Card> hand = seat.getHand(i);
         totalHandsWidth += hand.size() * cardSpacing;
       }
-      totalHandsWidth += (game.getHandCount() - 1) * cardSpacing * 2; // Extra spacing between hands
+      totalHandsWidth += (seat.getHandCount() - 1) * cardSpacing * 2; // Extra spacing between hands
 
       int currentX = centerX - (totalHandsWidth / 2);
 
-      for (int i = 0; i < game.getHandCount(); i++) {
-        List<Card> hand = game.getPlayerHand(i);
+      for (int i = 0; i < seat.getHandCount(); i++) {
+        List<Card> hand = seat.getHand(i);
 
         // Highlight active hand
-        boolean isActiveHand = (i == game.getCurrentHandIndex());
-        if (isActiveHand && game.getPhase() == BlackjackGame.GamePhase.PLAYER_TURN) {
+        boolean isActiveHand = (i == seat.getCurrentHandIndex());
+        if (isActiveHand && isMyTurn()) {
           // Draw a subtle background highlight for the active hand
           int highlightWidth = hand.size() * cardSpacing + 10;
           guiGraphics.fill(
@@ -586,10 +676,10 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       }
     } else {
       // Single hand rendering
-      int playerStartX = centerX - (game.getPlayerHand().size() * cardSpacing / 2);
+      int playerStartX = centerX - (seat.getCurrentHand().size() * cardSpacing / 2);
       renderHand(
           guiGraphics,
-          game.getPlayerHand(),
+          seat.getCurrentHand(),
           playerStartX,
           playerY,
           false,
@@ -597,8 +687,6 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
           cardWidth,
           cardHeight);
     }
-
-    BlackjackGame.Result result = game.getResult();
   }
 
   private void renderHand(
@@ -618,8 +706,7 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
       boolean isSecondDealerCard = isDealer && i == 1;
       boolean showBack = isSecondDealerCard && phase == BlackjackGame.GamePhase.PLAYER_TURN;
 
-      String cardName = showBack ? "back" : card.getCardName();
-      ResourceLocation texture = getCardTexture(cardName);
+      ResourceLocation texture = showBack ? CARD_BACK_TEXTURE : CARD_TEXTURES[card.ordinal()];
 
       guiGraphics.blit(
           RenderPipelines.GUI_TEXTURED,
@@ -645,25 +732,28 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
   private void updateButtonStates() {
     BlackjackGame game = menu.blockEntity.getGame();
     BlackjackGame.GamePhase phase = game.getPhase();
-    ItemStack wager = menu.blockEntity.inventory.getStackInSlot(0);
+    ItemStack wager = menu.blockEntity.inventory.getStackInSlot(menu.getSeat());
+    boolean myTurn = isMyTurn();
+    // Doubling and splitting each stake one more of the wager placed before the deal
+    int baseWager = wager.getCount() / Math.max(1, game.getSeat(menu.getSeat()).getTotalWager());
 
     // Deal button: enabled when waiting for game and wager is placed
     dealButton.active = (phase == BlackjackGame.GamePhase.WAITING && !wager.isEmpty());
 
-    // Hit button: enabled during player turn only
-    hitButton.active = (phase == BlackjackGame.GamePhase.PLAYER_TURN);
+    // Hit button: enabled during this seat's turn only
+    hitButton.active = myTurn;
 
-    // Stand button: enabled during player turn only
-    standButton.active = (phase == BlackjackGame.GamePhase.PLAYER_TURN);
+    // Stand button: enabled during this seat's turn only
+    standButton.active = myTurn;
 
-    // Double Down button: enabled during player turn, can double down, and player has sufficient
-    // matching items
-    boolean canDoubleDown = game.canDoubleDown();
+    // Double Down button: enabled during this seat's turn, can double down, and player has
+    // sufficient matching items
+    boolean canDoubleDown = myTurn && game.canDoubleDown();
     boolean hasMatchingItems = false;
 
     if (canDoubleDown && !wager.isEmpty()) {
       // Check if player has matching items for the additional wager
-      ItemStack additionalWager = new ItemStack(wager.getItem(), wager.getCount());
+      ItemStack additionalWager = new ItemStack(wager.getItem(), baseWager);
 
       Inventory playerInv = Minecraft.getInstance().player.getInventory();
       for (int i = 0; i < playerInv.getContainerSize(); i++) {
@@ -679,12 +769,12 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
     doubleDownButton.active = canDoubleDown && hasMatchingItems;
 
     // Split button: enabled during player turn, can split, and player has sufficient matching items
-    boolean canSplit = game.canSplit();
+    boolean canSplit = myTurn && game.canSplit();
     boolean hasMatchingItemsForSplit = false;
 
     if (canSplit && !wager.isEmpty()) {
       // Check if player has matching items for the additional wager
-      ItemStack additionalWager = new ItemStack(wager.getItem(), wager.getCount());
+      ItemStack additionalWager = new ItemStack(wager.getItem(), baseWager);
 
       Inventory playerInv = Minecraft.getInstance().player.getInventory();
       for (int i = 0; i < playerInv.getContainerSize(); i++) {
@@ -700,6 +790,32 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
     splitButton.active = canSplit && hasMatchingItemsForSplit;
   }
 
+  /** True while it is the viewer's seat that has to act. */
+  private boolean isMyTurn() {
+    BlackjackGame game = menu.blockEntity.getGame();
+    return game.getPhase() == BlackjackGame.GamePhase.PLAYER_TURN
+        && game.getActiveSeatIndex() == menu.getSeat();
+  }
+
+  /** The viewer's result once the round is over, or {@code null} if they sat it out. */
+  private BlackjackGame.Result getSeatResult() {
+    BlackjackGame game = menu.blockEntity.getGame();
+    if (game.getPhase() != BlackjackGame.GamePhase.FINISHED
+        || !game.getSeat(menu.getSeat()).isPlaying()) {
+      return null;
+    }
+    return game.determineSeatResult(menu.getSeat());
+  }
+
+  private static String formatAction(PlayerAction action) {
+    return switch (action) {
+      case HIT -> "Hit";
+      case STAND -> "Stand";
+      case DOUBLE -> "Double Down";
+      case SPLIT -> "Split";
+    };
+  }
+
   private static ResourceLocation getCardTexture(String cardName) {
     String path = "textures/gui/dealer_block/cards/" + cardName + ".png";
     return ResourceLocation.fromNamespaceAndPath(CasinoMod.MODID, path);
@@ -893,6 +1009,11 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
     g.drawString(this.font, soft17Check + " Dealer hits soft 17", panelX + 6, y, 0xFFAAAAAA, false);
     y += this.font.lineHeight + 2;
 
+    // Continuous shuffle setting
+    String csmCheck = menu.blockEntity.isContinuousShuffle() ? "[✓]" : "[ ]";
+    g.drawString(this.font, csmCheck + " Continuous shuffle", panelX + 6, y, 0xFFAAAAAA, false);
+    y += this.font.lineHeight + 2;
+
     // Number of decks with +/- controls
     g.drawString(this.font, "Number of decks: ", panelX + 6, y, 0xFFAAAAAA, false);
     int decksX = panelX + 6 + this.font.width("Number of decks: ");
@@ -909,6 +1030,17 @@ public class DealerScreen extends AbstractContainerScreen<DealerMenu> {
     g.drawString(this.font, "[+]", plusX, y, 0xFF5555FF, false);
     y += this.font.lineHeight + 2;
 
+    // Number of seats with +/- controls
+    g.drawString(this.font, "Seats: ", panelX + 6, y, 0xFFAAAAAA, false);
+    int seatsX = panelX + 6 + this.font.width("Seats: ");
+    g.drawString(this.font, "[-]", seatsX, y, 0xFF5555FF, false);
+    int seatCountX = seatsX + this.font.width("[-] ");
+    String seatCount = String.valueOf(menu.blockEntity.getSeatCount());
+    g.drawString(this.font, seatCount, seatCountX, y, 0xFFFFFFFF, false);
+    int seatsPlusX = seatCountX + this.font.width(seatCount) + 2;
+    g.drawString(this.font, "[+]", seatsPlusX, y, 0xFF5555FF, false);
+    y += this.font.lineHeight + 2;
+
     // Bet limits
     g.drawString(
         this.font,
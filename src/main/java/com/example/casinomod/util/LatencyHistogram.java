@@ -0,0 +1,86 @@
+package com.example.casinomod.util;
+
+import java.util.Arrays;
+
+/**
+ * Counts non-negative values, such as nanoseconds or ticks, in log-linear buckets: each power of
+ * two is split into {@value #SUB_BUCKETS} equal buckets, so any recorded value is reported within
+ * 1/{@value #SUB_BUCKETS} of itself while the whole range of a {@code long} fits in a few hundred
+ * counters. Recording is a couple of shifts and an array increment, cheap enough for every table
+ * step the scheduler times.
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BITS = 3;
+  static final int SUB_BUCKETS = 1 << SUB_BITS;
+  // Values below 2 * SUB_BUCKETS get a bucket each; every power of two above adds SUB_BUCKETS
+  private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+  private final long[] counts = new long[BUCKETS];
+  private long count = 0;
+  private long total = 0;
+  private long max = 0;
+
+  /** Adds {@code value}, counting anything negative as zero. */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    counts[indexOf(value)]++;
+    count++;
+    total += value;
+    max = Math.max(max, value);
+  }
+
+  static int indexOf(long value) {
+    int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(value) - SUB_BITS);
+    // value >>> shift is below 2 * SUB_BUCKETS, and at least SUB_BUCKETS once shift > 0
+    return shift * SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  /** Smallest value that lands in bucket {@code index}. */
+  static long lowestIn(int index) {
+    if (index < 2 * SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    return (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public long getMax() {
+    return max;
+  }
+
+  public double getMean() {
+    return count == 0 ? 0 : (double) total / count;
+  }
+
+  /**
+   * The value at or below which {@code percentile} percent of recorded values fall, as the lowest
+   * value of its bucket and never more than the maximum. Zero when nothing has been recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(lowestIn(i), max);
+      }
+    }
+    return max;
+  }
+
+  public void reset() {
+    Arrays.fill(counts, 0);
+    count = 0;
+    total = 0;
+    max = 0;
+  }
+}
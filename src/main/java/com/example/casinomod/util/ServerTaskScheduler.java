@@ -1,40 +1,143 @@
 package com.example.casinomod.util;
 
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.casinomod.CasinoMod;
+import com.example.casinomod.Config;
 
 import net.minecraft.server.MinecraftServer;
 
+/**
+ * Decides which table steps run on each server tick. Tables drive their own steps from their block
+ * entity tickers; before running one they ask {@link #tryStartStep} for room in this tick's budget,
+ * and report back through {@link #finishStep} once it is done.
+ *
+ * <p>The budget is shared by all levels and set by {@link Config#SCHEDULER_TASKS_PER_TICK} and
+ * {@link Config#SCHEDULER_MICROS_PER_TICK}. A step that does not fit stays due on its table and is
+ * tried again next tick, so a burst of busy tables spreads over several ticks instead of stalling
+ * one.
+ *
+ * <p>Steps are labelled by what they do, and the scheduler keeps counts, a histogram of how many
+ * ticks late steps run and, per label, a histogram of how long they take. {@link #describeStats}
+ * summarises them for {@code /casino stats scheduler}, and they are logged at debug level every
+ * {@link Config#SCHEDULER_STATS_INTERVAL} ticks.
+ *
+ * <p>Server thread only.
+ */
 public class ServerTaskScheduler {
-  private static final Queue<ScheduledTask> tasks = new ConcurrentLinkedQueue<>();
-
-  public static void schedule(MinecraftServer server, Runnable task, int delayTicks) {
-    tasks.add(new ScheduledTask(server.getTickCount() + delayTicks, task));
-  }
-
-  public static void tick(int currentTick) {
-    ScheduledTask task;
-    while ((task = tasks.peek()) != null) {
-      if (task.executeAt <= currentTick) {
-        tasks.poll();
-        try {
-          task.runnable.run();
-        } catch (Exception e) {
-          e.printStackTrace();
-        }
-      } else {
-        break;
-      }
+  // Server tick the budget below belongs to; it is refilled by the first step asked for after it
+  private static int budgetTick = Integer.MIN_VALUE;
+  private static int stepsLeft;
+  private static long nanosLeft;
+
+  // Since the server started
+  private static long stepsRun = 0;
+  private static long stepsDeferred = 0;
+  private static final LatencyHistogram lagTicks = new LatencyHistogram();
+  // Run times in nanoseconds by label, sorted for display
+  private static final Map<String, LatencyHistogram> runNanos = new TreeMap<>();
+
+  /**
+   * Claims room in this tick's budget for a step that has come due. Once the budget has run out
+   * this returns false and counts the step as deferred; the caller leaves it due and tries again
+   * next tick.
+   */
+  public static boolean tryStartStep(MinecraftServer server) {
+    int now = server.getTickCount();
+    if (budgetTick != now) {
+      budgetTick = now;
+      stepsLeft = Config.SCHEDULER_TASKS_PER_TICK.get();
+      nanosLeft = Config.SCHEDULER_MICROS_PER_TICK.get() * 1_000L;
     }
+    if (stepsLeft <= 0 || nanosLeft <= 0) {
+      stepsDeferred++;
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Records a step started with {@link #tryStartStep}: how many ticks late it ran, and how long it
+   * took under {@code label}, which is also taken from this tick's budget.
+   */
+  public static void finishStep(String label, long lateTicks, long nanos) {
+    lagTicks.record(lateTicks);
+    runNanos.computeIfAbsent(label, key -> new LatencyHistogram()).record(nanos);
+    stepsRun++;
+    stepsLeft--;
+    nanosLeft -= nanos;
+  }
+
+  /** Resets the budget and stats, e.g. when the server stops and its tick count will start over. */
+  public static void clear() {
+    budgetTick = Integer.MIN_VALUE;
+    stepsRun = 0;
+    stepsDeferred = 0;
+    lagTicks.reset();
+    runNanos.clear();
+  }
+
+  // ─────────────── Stats ───────────────
+
+  /** Table steps run since the server started. */
+  public static long getStepsRun() {
+    return stepsRun;
+  }
+
+  /** Times a due step was left for a later tick because the budget had run out. */
+  public static long getStepsDeferred() {
+    return stepsDeferred;
+  }
+
+  /** Ticks each step ran after the tick it was due on. */
+  public static LatencyHistogram getLagTicks() {
+    return lagTicks;
+  }
+
+  /** How long steps took to run, in nanoseconds, by label. */
+  public static Map<String, LatencyHistogram> getRunNanos() {
+    return Collections.unmodifiableMap(runNanos);
+  }
+
+  /** The stats as lines of text, for the stats command and the periodic log. */
+  public static List<String> describeStats() {
+    List<String> lines = new ArrayList<>();
+    lines.add(String.format("Scheduler: %d run, %d deferred", stepsRun, stepsDeferred));
+    lines.add(
+        String.format(
+            "Lag (ticks): mean %.2f, p50 %d, p99 %d, max %d",
+            lagTicks.getMean(),
+            lagTicks.getValueAtPercentile(50),
+            lagTicks.getValueAtPercentile(99),
+            lagTicks.getMax()));
+    runNanos.forEach(
+        (label, nanos) ->
+            lines.add(
+                String.format(
+                    "%s: %d run, mean %.1f µs, p50 %.1f µs, p99 %.1f µs, max %.1f µs",
+                    label,
+                    nanos.getCount(),
+                    nanos.getMean() / 1e3,
+                    nanos.getValueAtPercentile(50) / 1e3,
+                    nanos.getValueAtPercentile(99) / 1e3,
+                    nanos.getMax() / 1e3)));
+    return lines;
   }
 
-  private static class ScheduledTask {
-    final int executeAt;
-    final Runnable runnable;
+  /**
+   * Logs {@link #describeStats} at debug level if {@code tick} is a multiple of {@link
+   * Config#SCHEDULER_STATS_INTERVAL}.
+   */
+  public static void logStatsIfDue(int tick) {
+    int interval = Config.SCHEDULER_STATS_INTERVAL.get();
+    if (interval == 0 || tick % interval != 0 || !CasinoMod.LOGGER.isDebugEnabled()) return;
 
-    ScheduledTask(int executeAt, Runnable runnable) {
-      this.executeAt = executeAt;
-      this.runnable = runnable;
+    for (String line : describeStats()) {
+      CasinoMod.LOGGER.debug("[ServerTaskScheduler] {}", line);
     }
   }
 }
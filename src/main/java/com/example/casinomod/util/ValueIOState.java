@@ -0,0 +1,133 @@
+package com.example.casinomod.util;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import com.example.casinomod.core.StateInput;
+import com.example.casinomod.core.StateOutput;
+import com.mojang.serialization.Codec;
+
+import net.minecraft.world.level.storage.ValueInput;
+import net.minecraft.world.level.storage.ValueOutput;
+
+/**
+ * Adapts Minecraft's {@link ValueOutput} and {@link ValueInput} to the engine's {@link
+ * StateOutput} and {@link StateInput}, so block entities can save engine state with the rest of
+ * their data.
+ */
+public final class ValueIOState {
+  private ValueIOState() {}
+
+  public static StateOutput output(ValueOutput output) {
+    return new Output(output);
+  }
+
+  public static StateInput input(ValueInput input) {
+    return new Input(input);
+  }
+
+  private record Output(ValueOutput output) implements StateOutput {
+    @Override
+    public void putString(String key, String value) {
+      output.putString(key, value);
+    }
+
+    @Override
+    public void putInt(String key, int value) {
+      output.putInt(key, value);
+    }
+
+    @Override
+    public void putLong(String key, long value) {
+      output.putLong(key, value);
+    }
+
+    @Override
+    public void putBoolean(String key, boolean value) {
+      output.putBoolean(key, value);
+    }
+
+    @Override
+    public void putDouble(String key, double value) {
+      output.putDouble(key, value);
+    }
+
+    @Override
+    public void putIntArray(String key, int[] value) {
+      output.putIntArray(key, value);
+    }
+
+    @Override
+    public void putByteArray(String key, byte[] value, int offset, int length) {
+      output.store(key, Codec.BYTE_BUFFER, ByteBuffer.wrap(value, offset, length));
+    }
+
+    @Override
+    public StateOutput child(String key) {
+      return new Output(output.child(key));
+    }
+
+    @Override
+    public ChildList childrenList(String key) {
+      ValueOutput.ValueOutputList list = output.childrenList(key);
+      return () -> new Output(list.addChild());
+    }
+  }
+
+  private record Input(ValueInput input) implements StateInput {
+    @Override
+    public Optional<String> getString(String key) {
+      return input.getString(key);
+    }
+
+    @Override
+    public int getIntOr(String key, int defaultValue) {
+      return input.getIntOr(key, defaultValue);
+    }
+
+    @Override
+    public OptionalLong getLong(String key) {
+      return input.getLong(key).map(OptionalLong::of).orElseGet(OptionalLong::empty);
+    }
+
+    @Override
+    public boolean getBooleanOr(String key, boolean defaultValue) {
+      return input.getBooleanOr(key, defaultValue);
+    }
+
+    @Override
+    public double getDoubleOr(String key, double defaultValue) {
+      return input.getDoubleOr(key, defaultValue);
+    }
+
+    @Override
+    public Optional<int[]> getIntArray(String key) {
+      return input.getIntArray(key);
+    }
+
+    @Override
+    public Optional<byte[]> getByteArray(String key) {
+      return input
+          .read(key, Codec.BYTE_BUFFER)
+          .map(
+              buffer -> {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return bytes;
+              });
+    }
+
+    @Override
+    public Optional<StateInput> child(String key) {
+      return input.child(key).map(Input::new);
+    }
+
+    @Override
+    public Optional<Iterable<StateInput>> childrenList(String key) {
+      return input
+          .childrenList(key)
+          .map(list -> () -> list.stream().<StateInput>map(Input::new).iterator());
+    }
+  }
+}
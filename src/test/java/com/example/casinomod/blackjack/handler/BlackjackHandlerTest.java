@@ -92,11 +92,11 @@ class BlackjackHandlerTest {
 
     game.setPhase(BlackjackGame.GamePhase.FINISHED);
     game.getDealerHandDirect().clear();
-    game.getDealerHand()
+    game.getDealerHandDirect()
         .add(
             new com.example.casinomod.blackjack.Card(
                 10, com.example.casinomod.blackjack.Suit.CLUBS));
-    game.getDealerHand()
+    game.getDealerHandDirect()
         .add(
             new com.example.casinomod.blackjack.Card(
                 9, com.example.casinomod.blackjack.Suit.DIAMONDS));
@@ -2,6 +2,7 @@ package com.example.casinomod.blackjack.handler;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.example.casinomod.blackjack.BlackjackGame;
@@ -115,8 +116,9 @@ class HandlerLogicTest {
     BlackjackGame game = new BlackjackGame();
     game.startGame();
 
-    List<Card> playerHand = game.getPlayerHand();
-    List<Card> dealerHand = game.getDealerHand();
+    // Game hands are read-only views, so collect the dealt cards locally
+    List<Card> playerHand = new ArrayList<>(game.getPlayerHand());
+    List<Card> dealerHand = new ArrayList<>(game.getDealerHand());
 
     Card playerCard1 = game.draw();
     playerHand.add(playerCard1);
@@ -28,10 +28,12 @@ class AuditNetworkTest {
     original.dealerScore = 18;
     original.playerScores.add(20);
     original.playerScores.add(19);
+    original.handBets.add(10);
+    original.handBets.add(5);
 
     ByteBuf buf = Unpooled.buffer();
-    GameRecord.STREAM_CODEC.encode(buf, original);
-    GameRecord decoded = GameRecord.STREAM_CODEC.decode(buf);
+    GameRecordCodec.STREAM_CODEC.encode(buf, original);
+    GameRecord decoded = GameRecordCodec.STREAM_CODEC.decode(buf);
     buf.release();
 
     assertEquals(original.startEpochMs, decoded.startEpochMs);
@@ -43,6 +45,7 @@ class AuditNetworkTest {
     assertEquals(original.split, decoded.split);
     assertEquals(original.dealerScore, decoded.dealerScore);
     assertEquals(original.playerScores, decoded.playerScores);
+    assertEquals(original.handBets, decoded.handBets);
   }
 
   @Test
@@ -59,8 +62,8 @@ class AuditNetworkTest {
     // No player scores added
 
     ByteBuf buf = Unpooled.buffer();
-    GameRecord.STREAM_CODEC.encode(buf, original);
-    GameRecord decoded = GameRecord.STREAM_CODEC.decode(buf);
+    GameRecordCodec.STREAM_CODEC.encode(buf, original);
+    GameRecord decoded = GameRecordCodec.STREAM_CODEC.decode(buf);
     buf.release();
 
     assertEquals(original.playerScores.size(), decoded.playerScores.size());
@@ -157,8 +160,8 @@ class AuditNetworkTest {
       record.result = result;
 
       ByteBuf buf = Unpooled.buffer();
-      GameRecord.STREAM_CODEC.encode(buf, record);
-      GameRecord decoded = GameRecord.STREAM_CODEC.decode(buf);
+      GameRecordCodec.STREAM_CODEC.encode(buf, record);
+      GameRecord decoded = GameRecordCodec.STREAM_CODEC.decode(buf);
       buf.release();
 
       assertEquals(result, decoded.result);
@@ -176,8 +179,8 @@ class AuditNetworkTest {
     }
 
     ByteBuf buf = Unpooled.buffer();
-    GameRecord.STREAM_CODEC.encode(buf, original);
-    GameRecord decoded = GameRecord.STREAM_CODEC.decode(buf);
+    GameRecordCodec.STREAM_CODEC.encode(buf, original);
+    GameRecord decoded = GameRecordCodec.STREAM_CODEC.decode(buf);
     buf.release();
 
     assertEquals(10, decoded.playerScores.size());
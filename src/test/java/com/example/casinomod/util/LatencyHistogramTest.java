@@ -0,0 +1,87 @@
+package com.example.casinomod.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void testEmptyHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMean());
+    assertEquals(0, histogram.getValueAtPercentile(99));
+  }
+
+  @Test
+  void testBucketsCoverEveryValueInOrder() {
+    long previous = -1;
+    for (int index = 0; index <= LatencyHistogram.indexOf(Long.MAX_VALUE); index++) {
+      long lowest = LatencyHistogram.lowestIn(index);
+      assertTrue(lowest > previous, "bucket " + index);
+      assertEquals(index, LatencyHistogram.indexOf(lowest));
+      if (index > 0) {
+        assertEquals(index - 1, LatencyHistogram.indexOf(lowest - 1));
+      }
+      previous = lowest;
+    }
+  }
+
+  @Test
+  void testBucketsStayWithinAnEighth() {
+    for (long value : new long[] {17, 100, 12_345, 999_999_999L, Long.MAX_VALUE / 3}) {
+      long lowest = LatencyHistogram.lowestIn(LatencyHistogram.indexOf(value));
+      assertTrue(lowest <= value);
+      assertTrue(value - lowest <= value / LatencyHistogram.SUB_BUCKETS, "value " + value);
+    }
+  }
+
+  @Test
+  void testSmallValuesAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int lag = 0; lag < 10; lag++) {
+      histogram.record(lag);
+    }
+    assertEquals(10, histogram.getCount());
+    assertEquals(4.5, histogram.getMean(), 1e-9);
+    assertEquals(9, histogram.getMax());
+    assertEquals(4, histogram.getValueAtPercentile(50));
+    assertEquals(9, histogram.getValueAtPercentile(100));
+    assertEquals(0, histogram.getValueAtPercentile(0));
+  }
+
+  @Test
+  void testPercentilesOfSkewedTimings() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    // 990 quick steps and 10 slow ones, in nanoseconds
+    for (int i = 0; i < 990; i++) {
+      histogram.record(20_000);
+    }
+    for (int i = 0; i < 10; i++) {
+      histogram.record(5_000_000);
+    }
+
+    long p50 = histogram.getValueAtPercentile(50);
+    assertTrue(p50 <= 20_000 && p50 > 20_000 * 7 / 8, "p50 " + p50);
+    long p99 = histogram.getValueAtPercentile(99);
+    assertEquals(p50, p99);
+    long p999 = histogram.getValueAtPercentile(99.9);
+    assertTrue(p999 <= 5_000_000 && p999 > 5_000_000 * 7 / 8, "p99.9 " + p999);
+    assertEquals(5_000_000, histogram.getMax());
+  }
+
+  @Test
+  void testNegativeCountsAsZeroAndResetClears() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-3);
+    assertEquals(0, histogram.getMax());
+    assertEquals(1, histogram.getCount());
+
+    histogram.record(40);
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(50));
+  }
+}